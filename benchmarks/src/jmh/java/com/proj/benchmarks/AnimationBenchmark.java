@@ -0,0 +1,61 @@
+package com.proj.benchmarks;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.proj.assets.AnimationClip;
+import com.proj.assets.AnimationRegistry;
+import com.proj.assets.AssetDescriptors;
+import com.proj.core.GameSimulation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Key frame lookups, on their own and as part of a simulation step with only the player in it.
+ * Uses a stub registry and no map, so neither textures nor collision are involved.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AnimationBenchmark {
+    // Same layout as the player sheets
+    private static final int FRAME_COLS = 4;
+    private static final int FRAME_ROWS = 4;
+    private static final float FRAME_DURATION = 0.1f;
+    // Steps before the player turns around, one second
+    private static final int TURN_INTERVAL = 60;
+
+    private GameSimulation simulation;
+    private AnimationClip clip;
+    private float stateTime;
+    private int tick;
+
+    @Setup
+    public void setUp() {
+        AnimationRegistry animations = AnimationRegistry.stub();
+        simulation = new GameSimulation(animations, null);
+        simulation.spawnPlayer(0, 0, true);
+        clip = animations.getClip(AssetDescriptors.PLAYER_MALE, FRAME_COLS, FRAME_ROWS, 0, FRAME_DURATION);
+    }
+
+    @Benchmark
+    public TextureRegion getKeyFrame() {
+        stateTime += GameSimulation.STEP;
+        return clip.getKeyFrame(stateTime);
+    }
+
+    @Benchmark
+    public Entity updatePlayer() {
+        // Walk back and forth so both horizontal clips are used
+        float direction = (tick++ / TURN_INTERVAL) % 2 == 0 ? 1 : -1;
+        simulation.setInput(direction, 0);
+        simulation.step();
+        return simulation.getPlayer();
+    }
+}
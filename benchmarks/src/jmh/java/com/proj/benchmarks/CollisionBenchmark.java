@@ -0,0 +1,102 @@
+package com.proj.benchmarks;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.proj.assets.LevelAssets;
+import com.proj.headless.HeadlessGdx;
+import com.proj.map.CompiledMap;
+import com.proj.map.CompiledTiledMap;
+import com.proj.map.MapInteractionHandler;
+import com.proj.map.mapManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collision queries against each shipped map, using the same player feet box as EntityFactory.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CollisionBenchmark {
+    // Player feet box, see EntityFactory.createPlayer
+    private static final float BOX_WIDTH = 24f;
+    private static final float BOX_HEIGHT = 16f;
+    // One fixed step of player movement
+    private static final float STEP_DISTANCE = 2f;
+    private static final int PROBE_SPACING = 4;
+
+    @Param({"0", "1", "2", "3", "4"})
+    public int level;
+
+    private MapInteractionHandler handler;
+    private mapManager manager;
+    private Rectangle[] probes;
+    private Vector2[] moveFrom;
+    private Vector2[] moveTo;
+    private final Vector2 target = new Vector2();
+    private int probe;
+    private int move;
+
+    @Setup
+    public void setUp() {
+        HeadlessGdx.start();
+        CompiledMap data = CompiledMap.read(Gdx.files.internal(LevelAssets.getMap(level).fileName));
+        handler = data.createInteractionHandler();
+        manager = new mapManager(null);
+        manager.setMap(new CompiledTiledMap(data), level);
+
+        // Boxes on a grid over the whole map, so hits and misses come in map proportions
+        float mapWidth = data.width * data.tileWidth;
+        float mapHeight = data.height * data.tileHeight;
+        Array<Rectangle> boxes = new Array<>();
+        for (float y = 0; y + BOX_HEIGHT <= mapHeight; y += PROBE_SPACING) {
+            for (float x = 0; x + BOX_WIDTH <= mapWidth; x += PROBE_SPACING) {
+                boxes.add(new Rectangle(x, y, BOX_WIDTH, BOX_HEIGHT));
+            }
+        }
+        probes = boxes.toArray(Rectangle.class);
+
+        // Single-step moves in random directions from every free position
+        Random random = new Random(level);
+        Array<Vector2> from = new Array<>();
+        Array<Vector2> to = new Array<>();
+        for (Rectangle box : probes) {
+            if (handler.isCollidingWithMap(box)) continue;
+            float angle = random.nextFloat() * 2 * (float) Math.PI;
+            Vector2 center = box.getCenter(new Vector2());
+            from.add(center);
+            to.add(new Vector2(center).add((float) Math.cos(angle) * STEP_DISTANCE, (float) Math.sin(angle) * STEP_DISTANCE));
+        }
+        moveFrom = from.toArray(Vector2.class);
+        moveTo = to.toArray(Vector2.class);
+    }
+
+    @Benchmark
+    public boolean isCollidingWithMap() {
+        probe = probe + 1 == probes.length ? 0 : probe + 1;
+        return handler.isCollidingWithMap(probes[probe]);
+    }
+
+    @Benchmark
+    public Vector2 adjustPositionForCollision() {
+        move = move + 1 == moveFrom.length ? 0 : move + 1;
+        target.set(moveTo[move]);
+        return handler.adjustPositionForCollision(moveFrom[move], target, BOX_WIDTH, BOX_HEIGHT);
+    }
+
+    @Benchmark
+    public Array<Rectangle> getCollisionObjects() {
+        return manager.getCollisionObjects();
+    }
+}
@@ -0,0 +1,63 @@
+package com.proj.benchmarks;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.proj.assets.AssetDescriptors;
+import com.proj.core.GameSimulation;
+import com.proj.headless.HeadlessGdx;
+import com.proj.quiz.QuizManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building a quiz (stage and question set) and drawing a question. The skin comes from the
+ * AssetManager in the game, so it is loaded once here rather than per quiz.
+ * Runs on the headless backend with a no-op GL, so only the CPU side is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QuizBenchmark {
+    @Param({"0", "1", "2", "3", "4"})
+    public int bossIndex;
+
+    private Skin skin;
+    private QuizManager quiz;
+
+    @Setup
+    public void setUp() {
+        HeadlessGdx.start();
+        skin = new Skin(Gdx.files.internal(AssetDescriptors.UI_SKIN.fileName));
+        quiz = new QuizManager(bossIndex, skin);
+        quiz.startQuiz();
+    }
+
+    @TearDown
+    public void tearDown() {
+        quiz.dispose();
+        skin.dispose();
+    }
+
+    @Benchmark
+    public void create(Blackhole blackhole) {
+        QuizManager created = new QuizManager(bossIndex, skin);
+        blackhole.consume(created);
+        created.dispose();
+    }
+
+    @Benchmark
+    public void renderQuestion() {
+        quiz.update(GameSimulation.STEP);
+        quiz.render(null);
+    }
+}
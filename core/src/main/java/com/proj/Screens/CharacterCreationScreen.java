@@ -4,16 +4,18 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
+import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import com.proj.core.RenderingPolicy;
 import com.proj.core.TechXplorerGame;
 import com.proj.assets.AssetDescriptors;
+import com.proj.assets.Sprites;
 
 public class CharacterCreationScreen extends ScreenAdapter {
     private final TechXplorerGame game;
@@ -26,9 +28,9 @@ public class CharacterCreationScreen extends ScreenAdapter {
     private String playerName = "Player";
     private boolean isMale = true;
 
-    // Preview textures
-    private Texture maleTexture;
-    private Texture femaleTexture;
+    // Preview sprite sheets, drawn from the sprite atlas
+    private TextureRegionDrawable malePreview;
+    private TextureRegionDrawable femalePreview;
     private Image characterPreview;
 
     public CharacterCreationScreen(TechXplorerGame game) {
@@ -41,9 +43,9 @@ public class CharacterCreationScreen extends ScreenAdapter {
         // Load skin for UI elements
         skin = game.getAssetManager().get(AssetDescriptors.UI_SKIN);
 
-        // Load character preview textures
-        maleTexture = new Texture(Gdx.files.internal("sprites/player_male.png"));
-        femaleTexture = new Texture(Gdx.files.internal("sprites/player_female.png"));
+        // Character previews come from the sprite atlas, which the AssetManager owns
+        malePreview = new TextureRegionDrawable(Sprites.find(game.getAssetManager(), AssetDescriptors.PLAYER_MALE));
+        femalePreview = new TextureRegionDrawable(Sprites.find(game.getAssetManager(), AssetDescriptors.PLAYER_FEMALE));
 
         // Set up UI
         setupUI();
@@ -95,10 +97,10 @@ public class CharacterCreationScreen extends ScreenAdapter {
             public void changed(ChangeEvent event, Actor actor) {
                 if (maleButton.isChecked()) {
                     isMale = true;
-                    characterPreview.setDrawable(new Image(maleTexture).getDrawable());
+                    characterPreview.setDrawable(malePreview);
                 } else {
                     isMale = false;
-                    characterPreview.setDrawable(new Image(femaleTexture).getDrawable());
+                    characterPreview.setDrawable(femalePreview);
                 }
             }
         };
@@ -116,7 +118,7 @@ public class CharacterCreationScreen extends ScreenAdapter {
         mainTable.row();
 
         // Character preview
-        characterPreview = new Image(maleTexture);
+        characterPreview = new Image(malePreview);
         characterPreview.setSize(128, 128);
         mainTable.add(new Label("Preview:", skin)).align(Align.right);
         mainTable.add(characterPreview).pad(20).size(128, 128);
@@ -148,6 +150,12 @@ public class CharacterCreationScreen extends ScreenAdapter {
         stage.addActor(mainTable);
     }
 
+    @Override
+    public void show() {
+        // Only redraw for input, button transitions and the name field cursor
+        RenderingPolicy.ON_DEMAND.apply();
+    }
+
     @Override
     public void render(float delta) {
         // Clear screen
@@ -167,7 +175,5 @@ public class CharacterCreationScreen extends ScreenAdapter {
     @Override
     public void dispose() {
         stage.dispose();
-        maleTexture.dispose();
-        femaleTexture.dispose();
     }
 }
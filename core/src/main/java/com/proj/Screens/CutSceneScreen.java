@@ -3,32 +3,33 @@ package com.proj.Screens;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.ScreenAdapter;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import com.proj.assets.AssetDescriptors;
+import com.proj.assets.AssetManifest;
 import com.proj.core.TechXplorerGame;
-import javafx.application.Platform;
-import javafx.embed.swing.JFXPanel;
-import javafx.scene.Group;
-import javafx.scene.Scene;
-import javafx.scene.canvas.Canvas;
-import javafx.scene.media.Media;
-import javafx.scene.media.MediaPlayer;
-import javafx.scene.media.MediaView;
-import javafx.util.Duration;
-
-import javax.swing.*;
-import java.awt.*;
-import java.awt.image.BufferedImage;
-import java.io.File;
+import com.proj.util.StartupTrace;
+import com.proj.video.FrameContainerPlayer;
+import com.proj.video.JavaFxVideoWindow;
+import com.proj.video.JcodecVideoPlayer;
+import com.proj.video.VideoPlayback;
+
+import java.io.IOException;
 import java.net.URL;
 
 public class CutSceneScreen extends ScreenAdapter {
+    // Per-frame time budget for streaming in the menu
+    private static final int ASSET_STREAMING_MILLIS = 2;
+
     private final TechXplorerGame game;
     private final OrthographicCamera camera;
     private final Viewport viewport;
@@ -37,21 +38,23 @@ public class CutSceneScreen extends ScreenAdapter {
 
     private Array<String> dialogues;
     private int currentDialogue = 0;
+    // Laid out once, so drawing the text each frame allocates nothing
+    private GlyphLayout[] dialogueLayouts;
+    private GlyphLayout continueLayout;
+    private GlyphLayout videoPlayingLayout;
 
     private float timeElapsed = 0f;
     private Texture introTexture;
     private boolean cutsceneFinished = false;
+    // Set while the game window is minimised; the dialogue timer and the video wait
+    private boolean paused = false;
 
-    // Video playback components
-    private MediaPlayer mediaPlayer;
+    // Video playback components. The intro is decoded in-engine with its sound; JavaFX is the
+    // fallback when either can't be played, and is only loaded if it is actually needed.
+    private VideoPlayback video;
+    private JavaFxVideoWindow videoWindow;
     private boolean isVideoPlaying = true;
     private boolean videoError = false;
-    private static boolean jfxInitialized = false;
-
-    // JavaFX components for video rendering
-    private JFrame videoFrame;
-    private Canvas videoCanvas;
-    private MediaView mediaView;
 
     public CutSceneScreen(TechXplorerGame game) {
         this.game = game;
@@ -71,119 +74,114 @@ public class CutSceneScreen extends ScreenAdapter {
         dialogues.add("Dr. Fox's child must now recover CPN's lost pieces...");
         dialogues.add("Battle robot bosses and stop EXODUS from taking over the world!");
 
-        // Load fallback texture
-        introTexture = game.getAssetManager().get("cutscene/intro.png", Texture.class);
+        dialogueLayouts = new GlyphLayout[dialogues.size];
+        for (int i = 0; i < dialogues.size; i++) {
+            dialogueLayouts[i] = new GlyphLayout(font, dialogues.get(i));
+        }
+        continueLayout = new GlyphLayout(font, "Press SPACE to continue");
+        videoPlayingLayout = new GlyphLayout(font, "Playing intro video... Press SPACE to skip");
+
+        // Load fallback texture; the cutscene group is loaded by LoadingScreen
+        introTexture = game.getAssetManager().get(AssetDescriptors.CUTSCENE_INTRO);
 
-        // Initialize JavaFX and video playback
         initializeVideo();
+        StartupTrace.mark(StartupTrace.Milestone.VIDEO_READY);
     }
 
     private void initializeVideo() {
-        try {
-            // Use System property to fix module error
-            System.setProperty("javafx.preloader", "com.sun.javafx.application.LauncherImpl");
-            System.setProperty("java.util.logging.config.file", "logging.properties");
-
-            // Initialize JavaFX if not already initialized
-            if (!jfxInitialized) {
-                final JFXPanel fxPanel = new JFXPanel(); // Initialize JavaFX platform
-                jfxInitialized = true;
+        FileHandle file = Gdx.files.internal(AssetDescriptors.INTRO_VIDEO);
+        // Native images are built without JavaFX, so there the intro plays silently rather than not at all
+        boolean javaFxAvailable = System.getProperty("org.graalvm.nativeimage.imagecode", "").isEmpty();
+
+        FileHandle frames = introFrames();
+        if (frames.exists()) {
+            try {
+                // The container has no sound; it comes from the original video
+                video = new FrameContainerPlayer(frames, file.exists() ? file : null, javaFxAvailable);
+                return;
+            } catch (GdxRuntimeException e) {
+                Gdx.app.error("CutSceneScreen", "Can't play the transcoded intro, decoding the video instead", e);
             }
+        }
 
-            // Get the video file path
-            String videoPath = Gdx.files.internal("assets/video/intro.mp4").file().getAbsolutePath();
-            File videoFile = new File(videoPath);
+        if (!file.exists()) {
+            Gdx.app.error("CutSceneScreen", "Video file not found: " + file.path());
+            videoError = true;
+            isVideoPlaying = false;
+            return;
+        }
 
-            if (!videoFile.exists()) {
-                Gdx.app.error("CutSceneScreen", "Video file not found: " + videoPath);
+        try {
+            video = new JcodecVideoPlayer(file, javaFxAvailable);
+        } catch (IOException e) {
+            if (!javaFxAvailable) {
+                Gdx.app.error("CutSceneScreen", "Can't decode the intro in-engine", e);
                 videoError = true;
                 isVideoPlaying = false;
                 return;
             }
+            Gdx.app.error("CutSceneScreen", "Can't play the intro in-engine, falling back to JavaFX", e);
+            initializeJavaFxVideo(file);
+        }
+    }
 
-            // Create a separate frame for video display
-            SwingUtilities.invokeLater(() -> {
-                videoFrame = new JFrame("Video");
-                videoFrame.setSize(800, 480);
-                videoFrame.setLocationRelativeTo(null);
-                videoFrame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
-
-                JFXPanel videoPanel = new JFXPanel();
-                videoFrame.add(videoPanel);
-                videoFrame.setVisible(true);
-
-                // Create Media and MediaPlayer on the JavaFX thread
-                Platform.runLater(() -> {
-                    try {
-                        Group root = new Group();
-                        Scene scene = new Scene(root);
-                        videoPanel.setScene(scene);
-
-                        Media media = new Media(videoFile.toURI().toString());
-                        mediaPlayer = new MediaPlayer(media);
-                        mediaView = new MediaView(mediaPlayer);
-
-                        // Size the video view
-                        mediaView.setFitWidth(800);
-                        mediaView.setFitHeight(480);
-                        mediaView.setPreserveRatio(true);
-
-                        root.getChildren().add(mediaView);
-
-                        // Set up video completion handler
-                        mediaPlayer.setOnEndOfMedia(() -> {
-                            isVideoPlaying = false;
-                            Platform.runLater(() -> {
-                                if (videoFrame != null) {
-                                    videoFrame.dispose();
-                                    videoFrame = null;
-                                }
-                                mediaPlayer.dispose();
-                            });
-                        });
-
-                        // Start playing
-                        mediaPlayer.play();
-                    } catch (Exception e) {
-                        Gdx.app.error("CutSceneScreen", "Error initializing video: " + e.getMessage(), e);
-                        videoError = true;
-                        isVideoPlaying = false;
-                        if (videoFrame != null) {
-                            videoFrame.dispose();
-                            videoFrame = null;
-                        }
-                    }
-                });
-            });
-        } catch (Exception e) {
+    // The transcoded intro. Installed games keep it next to the jar, where it can be mapped; when run
+    // from the project it is with the other assets.
+    private FileHandle introFrames() {
+        FileHandle frames = Gdx.files.internal(AssetDescriptors.INTRO_VIDEO_FRAMES);
+        if (game.getVideoFolder() != null) {
+            FileHandle shipped = Gdx.files.absolute(game.getVideoFolder()).child(frames.name());
+            if (shipped.exists()) return shipped;
+        }
+        return frames;
+    }
+
+    private void initializeJavaFxVideo(FileHandle file) {
+        try {
+            videoWindow = new JavaFxVideoWindow(file.file().getAbsoluteFile());
+        } catch (Exception | LinkageError e) {
+            // LinkageError: JavaFX isn't on the classpath
             Gdx.app.error("CutSceneScreen", "Error setting up video: " + e.getMessage(), e);
             videoError = true;
             isVideoPlaying = false;
         }
     }
 
+    @Override
+    public void show() {
+        // The menu comes next
+        AssetManifest.getDefault().queue(game.getAssetManager(), AssetManifest.MENU);
+    }
+
     @Override
     public void render(float delta) {
+        if (paused) return;
+
         // Clear screen
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
+        if (!game.getAssetManager().isFinished()) {
+            game.getAssetManager().update(ASSET_STREAMING_MILLIS);
+        }
+
         // Update time
         timeElapsed += delta;
+        // The first frame that takes input
+        StartupTrace.mark(StartupTrace.Milestone.INTERACTIVE);
+
+        if (videoWindow != null) {
+            if (videoWindow.hasFailed()) {
+                videoError = true;
+            } else if (videoWindow.isFinished()) {
+                isVideoPlaying = false;
+            }
+        }
 
         // Process input (skip cutscene)
         if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE) || Gdx.input.justTouched()) {
             if (isVideoPlaying) {
-                Platform.runLater(() -> {
-                    if (mediaPlayer != null) {
-                        mediaPlayer.stop();
-                        mediaPlayer.dispose();
-                    }
-                });
-                if (videoFrame != null) {
-                    videoFrame.dispose();
-                    videoFrame = null;
-                }
+                stopVideo();
                 isVideoPlaying = false;
             } else {
                 nextDialogue();
@@ -206,15 +204,24 @@ public class CutSceneScreen extends ScreenAdapter {
 
             // Draw current dialogue text
             if (currentDialogue < dialogues.size) {
-                font.draw(batch, dialogues.get(currentDialogue), 50, 100);
-                font.draw(batch, "Press SPACE to continue", 50, 50);
+                font.draw(batch, dialogueLayouts[currentDialogue], 50, 100);
+                font.draw(batch, continueLayout, 50, 50);
             }
         } else if (videoError) {
             // If video failed, show the static image
             batch.draw(introTexture, 0, 0, TechXplorerGame.WORLD_WIDTH, TechXplorerGame.WORLD_HEIGHT);
+        } else if (video != null) {
+            video.update(delta);
+            if (video.isFinished()) {
+                stopVideo();
+                isVideoPlaying = false;
+            } else {
+                drawVideoFrame();
+                font.draw(batch, videoPlayingLayout, 20, 30);
+            }
         } else {
             // While video is playing, display a message in the game window
-            font.draw(batch, "Playing intro video... Press SPACE to skip",
+            font.draw(batch, videoPlayingLayout,
                 TechXplorerGame.WORLD_WIDTH/2 - 150, TechXplorerGame.WORLD_HEIGHT/2);
         }
 
@@ -222,20 +229,56 @@ public class CutSceneScreen extends ScreenAdapter {
 
         // Check if cutscene is finished
         if (cutsceneFinished) {
-            Platform.runLater(() -> {
-                if (mediaPlayer != null) {
-                    mediaPlayer.dispose();
-                }
-            });
-            if (videoFrame != null) {
-                videoFrame.dispose();
-                videoFrame = null;
-            }
+            stopVideo();
             // Transition to MainMenu instead of GameScreen
             game.goToMainMenu();
         }
     }
 
+    // Letterboxed into the world, keeping the video's aspect ratio
+    private void drawVideoFrame() {
+        Texture frame = video.getTexture();
+        if (frame == null) return;
+
+        float scale = Math.min(TechXplorerGame.WORLD_WIDTH / video.getWidth(), TechXplorerGame.WORLD_HEIGHT / video.getHeight());
+        float width = video.getWidth() * scale;
+        float height = video.getHeight() * scale;
+        batch.draw(frame, (TechXplorerGame.WORLD_WIDTH - width) / 2, (TechXplorerGame.WORLD_HEIGHT - height) / 2, width, height);
+    }
+
+    private void stopVideo() {
+        if (video != null) {
+            video.dispose();
+            video = null;
+        }
+        if (videoWindow != null) {
+            videoWindow.dispose();
+            videoWindow = null;
+        }
+    }
+
+    @Override
+    public void pause() {
+        paused = true;
+        if (video != null) {
+            video.setPaused(true);
+        }
+        if (videoWindow != null) {
+            videoWindow.pause();
+        }
+    }
+
+    @Override
+    public void resume() {
+        paused = false;
+        if (video != null) {
+            video.setPaused(false);
+        }
+        if (isVideoPlaying && videoWindow != null) {
+            videoWindow.resume();
+        }
+    }
+
     private void nextDialogue() {
         currentDialogue++;
         if (currentDialogue >= dialogues.size) {
@@ -248,17 +291,17 @@ public class CutSceneScreen extends ScreenAdapter {
         viewport.update(width, height, true);
     }
 
+    @Override
+    public void hide() {
+        stopVideo();
+        // The cutscene isn't shown again, so its image doesn't stay loaded for the session
+        AssetManifest.getDefault().unload(game.getAssetManager(), AssetManifest.CUTSCENE);
+        introTexture = null;
+    }
+
     @Override
     public void dispose() {
         font.dispose();
-        Platform.runLater(() -> {
-            if (mediaPlayer != null) {
-                mediaPlayer.dispose();
-            }
-        });
-        if (videoFrame != null) {
-            videoFrame.dispose();
-            videoFrame = null;
-        }
+        stopVideo();
     }
 }
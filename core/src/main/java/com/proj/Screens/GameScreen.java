@@ -4,20 +4,29 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import com.proj.core.GameSimulation;
+import com.proj.core.RenderingPolicy;
 import com.proj.core.TechXplorerGame;
+import com.proj.ecs.Mappers;
+import com.proj.ecs.components.TransformComponent;
 import com.proj.map.mapManager;
-import com.proj.entities.Player;
-import com.proj.entities.Boss;
+import com.proj.util.FrameProfiler;
+import com.proj.util.RenderScaler;
 
 public class GameScreen implements Screen {
+    // Per-frame time budget for streaming in the next level
+    private static final int ASSET_STREAMING_MILLIS = 2;
+
     private final TechXplorerGame game;
     private final AssetManager assetManager;
     private final com.proj.map.mapManager mapManager;
@@ -27,16 +36,18 @@ public class GameScreen implements Screen {
     private Viewport viewport;
 
     // Game objects
-    private Player player;
-    private Boss boss;
-    private Vector2 playerPosition;
-    private Vector2 bossPosition;
+    private GameSimulation simulation;
+    private final Vector2 playerPosition = new Vector2();
+    private final Vector2 bossPosition = new Vector2();
     private Array<Rectangle> collisionObjects;
 
     // For tracking input
     private float horizontalInput;
     private float verticalInput;
 
+    // Set while the window is minimised; nothing is simulated or drawn
+    private boolean paused;
+
     public GameScreen(TechXplorerGame game, int mapIndex) {
         this.game = game;
         this.assetManager = game.getAssetManager();
@@ -51,65 +62,124 @@ public class GameScreen implements Screen {
         mapManager.loadMap(mapIndex);
 
         // Get player and boss spawn positions
-        playerPosition = mapManager.getPlayerSpawnPosition();
-        bossPosition = mapManager.getBossSpawnPosition();
+        mapManager.getPlayerSpawnPosition(playerPosition);
+        mapManager.getBossSpawnPosition(bossPosition);
 
         // Get collision objects
         collisionObjects = mapManager.getCollisionObjects();
 
+        simulation = new GameSimulation(game.getAnimations(), mapManager.getInteractionHandler());
+        simulation.setProfiler(game.getProfiler());
+
         // Create player with appropriate gender
-        player = new Player(assetManager, playerPosition.x, playerPosition.y, game.isPlayerMale());
+        simulation.spawnPlayer(playerPosition.x, playerPosition.y, game.isPlayerMale());
 
         // Create boss for this level
-        if (bossPosition != null) {
-            boss = Boss.createBoss(mapIndex, assetManager, bossPosition.x, bossPosition.y);
-        }
+        simulation.spawnBoss(mapIndex, bossPosition.x, bossPosition.y);
     }
 
     @Override
     public void show() {
-        // Additional setup if needed when screen becomes visible
+        // The simulation needs every frame, even when the previous screen was rendering on demand
+        RenderingPolicy.CONTINUOUS.apply();
     }
 
     @Override
     public void render(float delta) {
+        if (paused) return;
+
+        FrameProfiler profiler = game.getProfiler();
+        profiler.begin(FrameProfiler.Phase.FRAME);
+
         // Clear the screen
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
+        // Stream in the prefetched next level a little at a time
+        if (!assetManager.isFinished()) {
+            assetManager.update(ASSET_STREAMING_MILLIS);
+        }
+
         // Process input
+        profiler.begin(FrameProfiler.Phase.INPUT);
         processInput();
+        profiler.end(FrameProfiler.Phase.INPUT);
 
-        // Update game objects
-        player.update(delta, horizontalInput, verticalInput);
-
-        if (boss != null) {
-            boss.update(delta);
-        }
+        // Update game objects in fixed steps
+        simulation.setInput(horizontalInput, verticalInput);
+        simulation.advance(delta);
+        float interpolation = simulation.getInterpolation();
 
         // Update camera to follow player
-        camera.position.set(player.getX() + player.getWidth()/2, player.getY() + player.getHeight()/2, 0);
+        TransformComponent player = Mappers.TRANSFORM.get(simulation.getPlayer());
+        camera.position.set(player.getRenderX(interpolation) + player.width/2,
+            player.getRenderY(interpolation) + player.height/2, 0);
+        RenderScaler renderScaler = game.getRenderScaler();
+        renderScaler.update(delta);
+        if (renderScaler.isEnabled()) {
+            // Snap to the frame buffer's texels so the map doesn't shimmer as the camera moves
+            float scale = renderScaler.getScale();
+            camera.position.x = Math.round(camera.position.x * scale) / scale;
+            camera.position.y = Math.round(camera.position.y * scale) / scale;
+        }
         camera.update();
+        // The profiler overlay leaves the whole window as the GL viewport
+        viewport.apply();
+        boolean offscreen = renderScaler.begin();
 
         // Render the map
+        profiler.begin(FrameProfiler.Phase.MAP_RENDER);
         mapManager.render(camera);
+        profiler.end(FrameProfiler.Phase.MAP_RENDER);
+        profiler.count(FrameProfiler.Counter.MAP_RENDER_CALLS, mapManager.getLastRenderCalls());
 
         // Render game objects
+        profiler.begin(FrameProfiler.Phase.ENTITY_RENDER);
         batch.setProjectionMatrix(camera.combined);
         batch.begin();
 
-        // Render player
-        player.render(batch);
+        // Render player and boss
+        simulation.getRenderSystem().render(batch, interpolation);
 
-        // Render boss if present
-        if (boss != null) {
-            boss.render(batch);
+        batch.end();
+        profiler.end(FrameProfiler.Phase.ENTITY_RENDER);
+        profiler.count(FrameProfiler.Counter.ENTITY_RENDER_CALLS, batch.renderCalls);
+
+        // Upscale the low-resolution frame to the window
+        if (offscreen) {
+            profiler.begin(FrameProfiler.Phase.UPSCALE);
+            renderScaler.end(batch, viewport);
+            profiler.end(FrameProfiler.Phase.UPSCALE);
         }
 
-        batch.end();
+        profiler.end(FrameProfiler.Phase.FRAME);
+        profiler.endFrame();
+
+        // Drawn after the frame is recorded, so the overlay doesn't measure itself
+        game.getProfilerOverlay().render(batch, delta, batch.totalRenderCalls);
     }
 
     private void processInput() {
+        // Profiler overlay and CSV dump
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
+            game.getProfilerOverlay().toggle();
+        }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F4)) {
+            FileHandle file = Gdx.files.local("profiles/frame-profile-" + TimeUtils.millis() + ".csv");
+            game.getProfiler().writeCsv(file);
+            Gdx.app.log("GameScreen", "Wrote frame profile to " + file.path());
+        }
+
+        // Render scale mode and dynamic scaling
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F5)) {
+            Gdx.app.log("GameScreen", "Render scale mode: " + game.getRenderScaler().cycleMode());
+        }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F6)) {
+            RenderScaler renderScaler = game.getRenderScaler();
+            renderScaler.setDynamic(!renderScaler.isDynamic());
+            Gdx.app.log("GameScreen", "Dynamic render scale: " + renderScaler.isDynamic());
+        }
+
         // Reset input
         horizontalInput = 0;
         verticalInput = 0;
@@ -131,16 +201,20 @@ public class GameScreen implements Screen {
     @Override
     public void resize(int width, int height) {
         viewport.update(width, height, true);
+        game.getRenderScaler().resize(viewport);
     }
 
     @Override
     public void pause() {
-        // Handle pause if needed
+        paused = true;
+        // Give back the GPU memory that is cheap to rebuild; render() recreates it after resume()
+        game.getRenderScaler().releaseFrameBuffer();
+        mapManager.disposeRenderer();
     }
 
     @Override
     public void resume() {
-        // Handle resume if needed
+        paused = false;
     }
 
     @Override
@@ -151,8 +225,7 @@ public class GameScreen implements Screen {
     @Override
     public void dispose() {
         mapManager.dispose();
-        if (player != null) {
-            player.dispose();
-        }
+        // Nothing else to dispose: the clips belong to the AnimationRegistry and the textures to the AssetManager
+        simulation.getEngine().removeAllEntities();
     }
 }
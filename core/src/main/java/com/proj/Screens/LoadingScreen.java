@@ -5,11 +5,13 @@ import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.proj.core.TechXplorerGame;
-import com.proj.assets.AssetDescriptors;
+import com.proj.assets.AssetManifest;
+import com.proj.util.StartupTrace;
 
 public class LoadingScreen extends ScreenAdapter {
     private final TechXplorerGame game;
@@ -19,6 +21,10 @@ public class LoadingScreen extends ScreenAdapter {
     private BitmapFont font;
 
     private float progress = 0f;
+    // The text is only laid out again when the shown percentage changes
+    private final StringBuilder progressText = new StringBuilder(16);
+    private final GlyphLayout progressLayout = new GlyphLayout();
+    private int shownPercent = -1;
 
     public LoadingScreen(TechXplorerGame game) {
         this.game = game;
@@ -38,35 +44,13 @@ public class LoadingScreen extends ScreenAdapter {
     }
 
     private void queueAssets() {
-        // Queue map assets
-        game.getAssetManager().load(AssetDescriptors.MAP_0);
-        game.getAssetManager().load(AssetDescriptors.MAP_1);
-        game.getAssetManager().load(AssetDescriptors.MAP_2);
-        game.getAssetManager().load(AssetDescriptors.MAP_3);
-        game.getAssetManager().load(AssetDescriptors.MAP_4);
-
-        // Queue player and enemy textures
-        game.getAssetManager().load(AssetDescriptors.PLAYER);
-
-        // Queue boss textures
-        game.getAssetManager().load(AssetDescriptors.BOSS_STEELWARD);
-        game.getAssetManager().load(AssetDescriptors.BOSS_BLAZECINDER);
-        game.getAssetManager().load(AssetDescriptors.BOSS_MEMORIX);
-        game.getAssetManager().load(AssetDescriptors.BOSS_GLITCHRON);
-        game.getAssetManager().load(AssetDescriptors.BOSS_EXODUS);
-
-        // Queue boss background textures
-        game.getAssetManager().load(AssetDescriptors.BG_STEELWARD);
-        game.getAssetManager().load(AssetDescriptors.BG_BLAZECINDER);
-        game.getAssetManager().load(AssetDescriptors.BG_MEMORIX);
-        game.getAssetManager().load(AssetDescriptors.BG_GLITCHRON);
-        game.getAssetManager().load(AssetDescriptors.BG_EXODUS);
-
-        // Queue cutscene assets
-        game.getAssetManager().load(AssetDescriptors.CUTSCENE_INTRO);
-
-        // Queue UI elements
-        game.getAssetManager().load(AssetDescriptors.UI_SKIN);
+        AssetManifest manifest = AssetManifest.getDefault();
+        // Sprite atlas and UI skin, used for the whole session
+        manifest.queue(game.getAssetManager(), AssetManifest.SHARED);
+        // The screen shown next. It streams in the menu while the intro plays; maps are loaded per
+        // level by mapManager.
+        manifest.queue(game.getAssetManager(), AssetManifest.CUTSCENE);
+        StartupTrace.mark(StartupTrace.Milestone.ASSETS_QUEUED);
     }
 
     @Override
@@ -78,9 +62,11 @@ public class LoadingScreen extends ScreenAdapter {
         // Update progress
         progress = game.getAssetManager().getProgress();
 
-        // Update asset manager
-        if (game.getAssetManager().update()) {
+        // Images are decoded on other threads; what's left here (mostly GL uploads) gets a slice
+        // of each frame, so the progress bar keeps animating
+        if (game.getAssetManager().update(game.getLoadingBudgetMillis())) {
             // Loading complete, move to cutscene
+            StartupTrace.mark(StartupTrace.Milestone.ASSETS_LOADED);
             game.startGame();
         }
 
@@ -90,7 +76,14 @@ public class LoadingScreen extends ScreenAdapter {
         batch.begin();
 
         // Draw loading text and progress bar
-        font.draw(batch, "Loading... " + Math.round(progress * 100) + "%", 20, TechXplorerGame.WORLD_HEIGHT / 2);
+        int percent = Math.round(progress * 100);
+        if (percent != shownPercent) {
+            shownPercent = percent;
+            progressText.setLength(0);
+            progressText.append("Loading... ").append(percent).append('%');
+            progressLayout.setText(font, progressText);
+        }
+        font.draw(batch, progressLayout, 20, TechXplorerGame.WORLD_HEIGHT / 2);
 
         // Draw progress bar
         batch.end();
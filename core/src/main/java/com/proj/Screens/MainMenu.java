@@ -14,6 +14,8 @@ import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.proj.assets.AssetDescriptors;
+import com.proj.assets.AssetManifest;
+import com.proj.core.RenderingPolicy;
 import com.proj.core.TechXplorerGame;
 
 public class MainMenu extends ScreenAdapter {
@@ -21,7 +23,7 @@ public class MainMenu extends ScreenAdapter {
     private final Stage stage;
     private final Viewport viewport;
     private final OrthographicCamera camera;
-    private final Texture backgroundTexture;
+    private Texture backgroundTexture;
     private final Skin skin;
 
     public MainMenu(TechXplorerGame game) {
@@ -34,9 +36,6 @@ public class MainMenu extends ScreenAdapter {
         // Load skin for UI elements
         skin = game.getAssetManager().get(AssetDescriptors.UI_SKIN);
 
-        // Load background texture (you might need to add this to your assets)
-        backgroundTexture = new Texture(Gdx.files.internal("backgrounds/menu_background.png"));
-
         // Set up menu UI
         setupUI();
 
@@ -100,6 +99,16 @@ public class MainMenu extends ScreenAdapter {
         stage.addActor(table);
     }
 
+    @Override
+    public void show() {
+        // Usually streamed in during the cutscene already, so this doesn't wait
+        AssetManifest.getDefault().finishLoading(game.getAssetManager(), AssetManifest.MENU);
+        backgroundTexture = game.getAssetManager().get(AssetDescriptors.MENU_BACKGROUND);
+
+        // Nothing moves unless the player does something, so only redraw on input and actions
+        RenderingPolicy.ON_DEMAND.apply();
+    }
+
     @Override
     public void render(float delta) {
         // Clear screen
@@ -121,6 +130,12 @@ public class MainMenu extends ScreenAdapter {
         viewport.update(width, height, true);
     }
 
+    @Override
+    public void hide() {
+        AssetManifest.getDefault().unload(game.getAssetManager(), AssetManifest.MENU);
+        backgroundTexture = null;
+    }
+
     @Override
     public void dispose() {
         stage.dispose();
@@ -0,0 +1,38 @@
+package com.proj.assets;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * A looping run of frames from a sprite sheet. Clips are built once by the AnimationRegistry and
+ * shared by every entity that plays them, so unlike Animation they can't be changed after creation.
+ * Each entity keeps its own state time.
+ */
+public final class AnimationClip {
+    private final Animation<TextureRegion> animation;
+
+    AnimationClip(float frameDuration, TextureRegion[] frames) {
+        this.animation = new Animation<>(frameDuration, frames.clone());
+        this.animation.setPlayMode(Animation.PlayMode.LOOP);
+    }
+
+    public TextureRegion getKeyFrame(float stateTime) {
+        return animation.getKeyFrame(stateTime);
+    }
+
+    public TextureRegion getFrame(int index) {
+        return animation.getKeyFrames()[index];
+    }
+
+    public int getFrameCount() {
+        return animation.getKeyFrames().length;
+    }
+
+    public float getFrameDuration() {
+        return animation.getFrameDuration();
+    }
+
+    public float getDuration() {
+        return animation.getAnimationDuration();
+    }
+}
@@ -0,0 +1,84 @@
+package com.proj.assets;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Builds the animation clips of the entity sprite sheets once and hands out the shared instances.
+ * The frames are regions of the sprite atlas, which the AssetManager owns; the registry keeps the
+ * split sheets and clips so entities created on every level transition don't split them again.
+ * <p>
+ * A {@link #stub()} registry hands out clips of empty regions and no textures, so entities can
+ * be simulated without a GL context or any loaded assets.
+ */
+public class AnimationRegistry {
+    private final AssetManager assetManager;
+    private final ObjectMap<String, TextureRegion[][]> sheets = new ObjectMap<>();
+    private final ObjectMap<String, AnimationClip> clips = new ObjectMap<>();
+
+    public AnimationRegistry(AssetManager assetManager) {
+        this.assetManager = assetManager;
+    }
+
+    public static AnimationRegistry stub() {
+        return new AnimationRegistry(null);
+    }
+
+    public boolean isStub() {
+        return assetManager == null;
+    }
+
+    /**
+     * The frames of a sheet in the sprite atlas, cut into a grid of columns x rows.
+     * A sheet is always split the same way, so asking for a different grid is an error.
+     */
+    public TextureRegion[][] getSheet(String regionName, int columns, int rows) {
+        TextureRegion[][] frames = sheets.get(regionName);
+        if (frames == null) {
+            frames = isStub() ? createStubSheet(columns, rows) : split(Sprites.find(assetManager, regionName), columns, rows);
+            sheets.put(regionName, frames);
+        } else if (frames.length != rows || frames[0].length != columns) {
+            throw new GdxRuntimeException("Sheet " + regionName + " was already split into "
+                + frames[0].length + "x" + frames.length + " frames");
+        }
+        return frames;
+    }
+
+    /**
+     * One row of a sheet as a looping clip. The first request for a row decides its frame duration.
+     */
+    public AnimationClip getClip(String regionName, int columns, int rows, int row, float frameDuration) {
+        String key = regionName + '#' + row;
+        AnimationClip clip = clips.get(key);
+        if (clip == null) {
+            clip = new AnimationClip(frameDuration, getSheet(regionName, columns, rows)[row]);
+            clips.put(key, clip);
+        }
+        return clip;
+    }
+
+    private static TextureRegion[][] split(TextureRegion sheet, int columns, int rows) {
+        return sheet.split(sheet.getRegionWidth() / columns, sheet.getRegionHeight() / rows);
+    }
+
+    // Regions without a texture; enough for anything that only looks at frame indices
+    private static TextureRegion[][] createStubSheet(int columns, int rows) {
+        TextureRegion[][] frames = new TextureRegion[rows][columns];
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                frames[row][column] = new TextureRegion();
+            }
+        }
+        return frames;
+    }
+
+    /**
+     * Drop all clips, e.g. before the sprite atlas is unloaded.
+     */
+    public void clear() {
+        sheets.clear();
+        clips.clear();
+    }
+}
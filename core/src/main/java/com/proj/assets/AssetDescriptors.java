@@ -2,37 +2,45 @@ package com.proj.assets;
 
 import com.badlogic.gdx.assets.AssetDescriptor;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 
+/**
+ * Typed handles for getting assets out of the AssetManager. Which assets are loaded when is decided by
+ * the groups in the asset manifest (see AssetManifest); the build fails if a path here isn't in it.
+ */
 public class AssetDescriptors {
-    // Maps
-    public static final AssetDescriptor<TiledMap> MAP_0 = new AssetDescriptor<>("maps/map0.tmx", TiledMap.class);
-    public static final AssetDescriptor<TiledMap> MAP_1 = new AssetDescriptor<>("maps/map1.tmx", TiledMap.class);
-    public static final AssetDescriptor<TiledMap> MAP_2 = new AssetDescriptor<>("maps/map2.tmx", TiledMap.class);
-    public static final AssetDescriptor<TiledMap> MAP_3 = new AssetDescriptor<>("maps/map3.tmx", TiledMap.class);
-    public static final AssetDescriptor<TiledMap> MAP_4 = new AssetDescriptor<>("maps/map4.tmx", TiledMap.class);
+    // Maps, compiled from assets/maps/*.tmx by the compileMaps Gradle task
+    public static final AssetDescriptor<TiledMap> MAP_0 = new AssetDescriptor<>("maps/map0.tmb", TiledMap.class);
+    public static final AssetDescriptor<TiledMap> MAP_1 = new AssetDescriptor<>("maps/map1.tmb", TiledMap.class);
+    public static final AssetDescriptor<TiledMap> MAP_2 = new AssetDescriptor<>("maps/map2.tmb", TiledMap.class);
+    public static final AssetDescriptor<TiledMap> MAP_3 = new AssetDescriptor<>("maps/map3.tmb", TiledMap.class);
+    public static final AssetDescriptor<TiledMap> MAP_4 = new AssetDescriptor<>("maps/map4.tmb", TiledMap.class);
 
-    // Player
-    public static final AssetDescriptor<Texture> PLAYER = new AssetDescriptor<>("sprites/player.png", Texture.class);
+    // Texture atlases, packed from assets/sprites and assets/tiles by the packTextures Gradle task
+    public static final AssetDescriptor<TextureAtlas> SPRITES_ATLAS = new AssetDescriptor<>("atlas/sprites.atlas", TextureAtlas.class);
+    public static final AssetDescriptor<TextureAtlas> TILES_ATLAS = new AssetDescriptor<>("atlas/tiles.atlas", TextureAtlas.class);
 
-    // Bosses
-    public static final AssetDescriptor<Texture> BOSS_STEELWARD = new AssetDescriptor<>("sprites/boss_steelward.png", Texture.class);
-    public static final AssetDescriptor<Texture> BOSS_BLAZECINDER = new AssetDescriptor<>("sprites/boss_blazecinder.png", Texture.class);
-    public static final AssetDescriptor<Texture> BOSS_MEMORIX = new AssetDescriptor<>("sprites/boss_memorix.png", Texture.class);
-    public static final AssetDescriptor<Texture> BOSS_GLITCHRON = new AssetDescriptor<>("sprites/boss_glitchron.png", Texture.class);
-    public static final AssetDescriptor<Texture> BOSS_EXODUS = new AssetDescriptor<>("sprites/boss_exodus.png", Texture.class);
+    // Player sprite sheets (regions in SPRITES_ATLAS)
+    public static final String PLAYER_MALE = "player_male";
+    public static final String PLAYER_FEMALE = "player_female";
 
-    // Boss backgrounds
-    public static final AssetDescriptor<Texture> BG_STEELWARD = new AssetDescriptor<>("backgrounds/steelward_bg.png", Texture.class);
-    public static final AssetDescriptor<Texture> BG_BLAZECINDER = new AssetDescriptor<>("backgrounds/blazecinder_bg.png", Texture.class);
-    public static final AssetDescriptor<Texture> BG_MEMORIX = new AssetDescriptor<>("backgrounds/memorix_bg.png", Texture.class);
-    public static final AssetDescriptor<Texture> BG_GLITCHRON = new AssetDescriptor<>("backgrounds/glitchron_bg.png", Texture.class);
-    public static final AssetDescriptor<Texture> BG_EXODUS = new AssetDescriptor<>("backgrounds/exodus_bg.png", Texture.class);
+    // Bosses (regions in SPRITES_ATLAS)
+    public static final String BOSS_STEELWARD = "boss_steelward";
+    public static final String BOSS_BLAZECINDER = "boss_blazecinder";
+    public static final String BOSS_MEMORIX = "boss_memorix";
+    public static final String BOSS_GLITCHRON = "boss_glitchron";
+    public static final String BOSS_EXODUS = "boss_exodus";
 
     // Cutscene
     public static final AssetDescriptor<Texture> CUTSCENE_INTRO = new AssetDescriptor<>("cutscene/intro.png", Texture.class);
+    // Streamed by the cutscene itself rather than loaded through the AssetManager
+    public static final String INTRO_VIDEO = "video/intro.mp4";
+    // Pre-decoded frames of the intro, written by the transcodeVideos Gradle task when it has been run
+    public static final String INTRO_VIDEO_FRAMES = "video/intro.tvf";
 
     // UI
+    public static final AssetDescriptor<Texture> MENU_BACKGROUND = new AssetDescriptor<>("backgrounds/menu_background.png", Texture.class);
     public static final AssetDescriptor<Skin> UI_SKIN = new AssetDescriptor<>("ui/ui_skin.json", Skin.class);
 }
@@ -0,0 +1,160 @@
+package com.proj.assets;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * The asset manifest written by the generateAssetManifest Gradle task: every shipped asset with its
+ * type, size, content hash and dependencies, and the groups the screens and levels load. A screen
+ * queues the groups it needs instead of listing files, and the build checks that nothing outside
+ * the manifest is loaded and nothing in it is loaded twice.
+ * <p>
+ * Layout, kept in sync with generateAssetManifest in the root build.gradle:
+ * <pre>
+ * { "groups": { name: [path, ...] },
+ *   "assets": { path: { "type": ..., "size": bytes, "sha256": hex, "dependencies": [path, ...] } } }
+ * </pre>
+ * Types are Texture, TextureAtlas, Skin, TiledMap, BitmapFont or Stream (read directly, e.g. video).
+ */
+public class AssetManifest {
+    public static final String FILE = "manifest.json";
+
+    // Groups: the sprites and UI skin, which stay loaded for the whole session, one per front-end
+    // screen, and one per level (see LevelAssets)
+    public static final String SHARED = "shared";
+    public static final String CUTSCENE = "cutscene";
+    public static final String MENU = "menu";
+    public static final String LEVEL_PREFIX = "level";
+
+    public static class Entry {
+        public String path;
+        // Null for streamed files
+        public Class<?> type;
+        public long size;
+        public String sha256;
+        public String[] dependencies;
+    }
+
+    private static AssetManifest defaultManifest;
+
+    private final ObjectMap<String, Entry> entries = new ObjectMap<>();
+    private final ObjectMap<String, Array<AssetDescriptor<?>>> groups = new ObjectMap<>();
+
+    /**
+     * The manifest shipped with the game, read on first use.
+     */
+    public static AssetManifest getDefault() {
+        if (defaultManifest == null) {
+            defaultManifest = read(Gdx.files.internal(FILE));
+        }
+        return defaultManifest;
+    }
+
+    public static AssetManifest read(FileHandle file) {
+        if (!file.exists()) {
+            throw new GdxRuntimeException(file + " is missing, run the generateAssetManifest Gradle task");
+        }
+        try {
+            return read(new JsonReader().parse(file));
+        } catch (RuntimeException e) {
+            throw new GdxRuntimeException("Couldn't read asset manifest: " + file, e);
+        }
+    }
+
+    public static AssetManifest read(JsonValue root) {
+        AssetManifest manifest = new AssetManifest();
+        for (JsonValue asset = root.get("assets").child; asset != null; asset = asset.next) {
+            Entry entry = new Entry();
+            entry.path = asset.name;
+            entry.type = typeOf(asset.getString("type"));
+            entry.size = asset.getLong("size");
+            entry.sha256 = asset.getString("sha256");
+            entry.dependencies = asset.get("dependencies").asStringArray();
+            manifest.entries.put(entry.path, entry);
+        }
+
+        for (JsonValue group = root.get("groups").child; group != null; group = group.next) {
+            Array<AssetDescriptor<?>> descriptors = new Array<>();
+            for (String path : group.asStringArray()) {
+                Entry entry = manifest.entries.get(path);
+                if (entry == null || entry.type == null) {
+                    throw new GdxRuntimeException("Group " + group.name + " lists " + path + ", which can't be loaded");
+                }
+                descriptors.add(descriptor(path, entry.type));
+            }
+            manifest.groups.put(group.name, descriptors);
+        }
+        return manifest;
+    }
+
+    private static <T> AssetDescriptor<T> descriptor(String path, Class<T> type) {
+        return new AssetDescriptor<>(path, type);
+    }
+
+    // A fixed set rather than class names, so no reflection is needed
+    private static Class<?> typeOf(String type) {
+        switch (type) {
+            case "Texture": return Texture.class;
+            case "TextureAtlas": return TextureAtlas.class;
+            case "Skin": return Skin.class;
+            case "TiledMap": return TiledMap.class;
+            case "BitmapFont": return BitmapFont.class;
+            case "Stream": return null;
+            default: throw new GdxRuntimeException("Unknown asset type " + type);
+        }
+    }
+
+    public Array<AssetDescriptor<?>> getGroup(String name) {
+        Array<AssetDescriptor<?>> group = groups.get(name);
+        if (group == null) {
+            throw new GdxRuntimeException("No asset group " + name + " in the manifest");
+        }
+        return group;
+    }
+
+    public Entry getEntry(String path) {
+        return entries.get(path);
+    }
+
+    /**
+     * Queue a group without waiting for it. Assets already loaded or queued are skipped,
+     * so their reference count isn't bumped twice.
+     */
+    public void queue(AssetManager assetManager, String group) {
+        for (AssetDescriptor<?> descriptor : getGroup(group)) {
+            if (!assetManager.contains(descriptor.fileName)) {
+                assetManager.load(descriptor);
+            }
+        }
+    }
+
+    /**
+     * Queue a group and block until all of its assets are loaded.
+     */
+    public void finishLoading(AssetManager assetManager, String group) {
+        queue(assetManager, group);
+        for (AssetDescriptor<?> descriptor : getGroup(group)) {
+            assetManager.finishLoadingAsset(descriptor);
+        }
+    }
+
+    public void unload(AssetManager assetManager, String group) {
+        for (AssetDescriptor<?> descriptor : getGroup(group)) {
+            if (assetManager.contains(descriptor.fileName)) {
+                assetManager.unload(descriptor.fileName);
+            }
+        }
+    }
+}
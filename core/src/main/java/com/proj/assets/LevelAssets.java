@@ -0,0 +1,76 @@
+package com.proj.assets;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * The assets that belong to a single level, as listed in the level's group of the asset manifest
+ * ("level0" to "level4"): its map.
+ * Boss sprites live in the shared sprite atlas, which stays loaded for the whole session.
+ * Levels are loaded when they are entered, the next one is prefetched in the background and
+ * the previous one is unloaded again. Every map depends on the shared tiles atlas, which the AssetManager
+ * reference counts, so it stays resident as long as any loaded map uses it.
+ */
+public class LevelAssets {
+    public static final int LEVEL_COUNT = 5;
+
+    private LevelAssets() {
+    }
+
+    public static String getGroup(int level) {
+        return AssetManifest.LEVEL_PREFIX + checkLevel(level);
+    }
+
+    public static AssetDescriptor<TiledMap> getMap(int level) {
+        return find(level, TiledMap.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> AssetDescriptor<T> find(int level, Class<T> type) {
+        Array<AssetDescriptor<?>> group = AssetManifest.getDefault().getGroup(getGroup(level));
+        for (AssetDescriptor<?> descriptor : group) {
+            if (descriptor.type == type) {
+                return (AssetDescriptor<T>) descriptor;
+            }
+        }
+        throw new GdxRuntimeException("Asset group " + getGroup(level) + " has no " + type.getSimpleName());
+    }
+
+    /**
+     * Queue a level without waiting for it. Assets already loaded or queued are skipped,
+     * so their reference count isn't bumped twice.
+     */
+    public static void queue(AssetManager assetManager, int level) {
+        AssetManifest.getDefault().queue(assetManager, getGroup(level));
+    }
+
+    /**
+     * Queue a level and block until all of its assets are loaded.
+     */
+    public static void finishLoading(AssetManager assetManager, int level) {
+        AssetManifest.getDefault().finishLoading(assetManager, getGroup(level));
+    }
+
+    /**
+     * Queue the level after this one, if there is one.
+     */
+    public static void prefetchNext(AssetManager assetManager, int level) {
+        if (level + 1 < LEVEL_COUNT) {
+            queue(assetManager, level + 1);
+        }
+    }
+
+    public static void unload(AssetManager assetManager, int level) {
+        AssetManifest.getDefault().unload(assetManager, getGroup(level));
+    }
+
+    private static int checkLevel(int level) {
+        if (level < 0 || level >= LEVEL_COUNT) {
+            throw new IllegalArgumentException("Level must be between 0 and " + (LEVEL_COUNT - 1));
+        }
+        return level;
+    }
+}
@@ -0,0 +1,224 @@
+package com.proj.assets;
+
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.SkinLoader;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.proj.map.CompiledMap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An AssetManager that decodes images and compiled maps on all cores. AssetManager itself loads one
+ * asset at a time on a single thread; this one starts decoding as soon as an asset is queued,
+ * including the pages of atlases and skins, on a pool with a thread per spare core. Even the atlas
+ * files are parsed there, so queueing an asset costs the render thread next to nothing.
+ * PrefetchingTextureLoader and CompiledMapLoader take the results, so when an asset's turn comes
+ * usually only the GL upload is left, which update(millis) time-slices on the render thread.
+ * <p>
+ * Decoded images wait in memory until they are uploaded. Results nobody takes, including the pages
+ * of an atlas prefetched for an asset, are freed when that asset is unloaded, or on dispose().
+ */
+public class PrefetchingAssetManager extends AssetManager {
+    // Left by takePixmap, so a page an atlas parse queues after its texture was loaded isn't decoded
+    private static final Future<Pixmap> TAKEN = CompletableFuture.completedFuture(null);
+
+    private final ExecutorService decoder;
+    // Keyed by file path
+    private final ConcurrentHashMap<String, Future<Pixmap>> pixmaps = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Future<CompiledMap>> maps = new ConcurrentHashMap<>();
+    // Atlas path to the paths of the pages prefetched for it
+    private final ConcurrentHashMap<String, Future<List<String>>> atlasPages = new ConcurrentHashMap<>();
+    // Asset file name to the atlas whose pages were prefetched for it; only used under the lock
+    private final ObjectMap<String, String> atlasOwners = new ObjectMap<>();
+
+    public PrefetchingAssetManager() {
+        this(new InternalFileHandleResolver(), Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+    }
+
+    public PrefetchingAssetManager(FileHandleResolver resolver, int decoderThreads) {
+        super(resolver);
+        AtomicInteger threadCount = new AtomicInteger();
+        decoder = Executors.newFixedThreadPool(decoderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "AssetDecoder-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            // Decoding the next level mustn't take time from the render thread
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        });
+        setLoader(Texture.class, new PrefetchingTextureLoader(resolver));
+    }
+
+    @Override
+    public synchronized <T> void load(String fileName, Class<T> type, AssetLoaderParameters<T> parameter) {
+        // Loading an asset that is already there only bumps its reference count
+        boolean queued = contains(fileName);
+        super.load(fileName, type, parameter);
+        if (queued) return;
+
+        FileHandle file = getFileHandleResolver().resolve(fileName);
+        if (type == Texture.class) {
+            prefetchPixmap(file);
+        } else if (type == TextureAtlas.class) {
+            prefetchAtlasPages(fileName, file);
+        } else if (type == Skin.class) {
+            // The atlas SkinLoader uses: the one in the parameter, or the skin's namesake
+            String atlasPath = parameter instanceof SkinLoader.SkinParameter
+                ? ((SkinLoader.SkinParameter) parameter).textureAtlasPath : null;
+            prefetchAtlas(fileName, atlasPath != null
+                ? getFileHandleResolver().resolve(atlasPath)
+                : file.sibling(file.nameWithoutExtension() + ".atlas"));
+        } else if (type == TiledMap.class && fileName.endsWith(".tmb")) {
+            maps.computeIfAbsent(file.path(), path -> decoder.submit(() -> CompiledMap.read(file)));
+            prefetchAtlas(fileName, getFileHandleResolver().resolve(AssetDescriptors.TILES_ATLAS.fileName));
+        }
+    }
+
+    // For an atlas that comes in as a dependency; if it's already loaded or queued, so are its pages
+    private void prefetchAtlas(String owner, FileHandle file) {
+        if (!contains(file.path())) {
+            prefetchAtlasPages(owner, file);
+        }
+    }
+
+    private void prefetchAtlasPages(String owner, FileHandle file) {
+        atlasOwners.put(owner, file.path());
+        atlasPages.computeIfAbsent(file.path(), path -> decoder.submit(() -> {
+            // The same page files TextureAtlasLoader asks for. A missing atlas only fails this
+            // task; the loader reports it when the asset's turn comes.
+            TextureAtlas.TextureAtlasData data = new TextureAtlas.TextureAtlasData(file, file.parent(), false);
+            List<String> pages = new ArrayList<>(data.getPages().size);
+            for (TextureAtlas.TextureAtlasData.Page page : data.getPages()) {
+                // Not checked against loaded assets: that takes the manager's lock, which unload()
+                // holds while it waits for this task
+                prefetchPixmap(page.textureFile);
+                pages.add(page.textureFile.path());
+            }
+            return pages;
+        }));
+    }
+
+    private void prefetchPixmap(FileHandle file) {
+        String extension = file.extension().toLowerCase();
+        // Compressed formats such as KTX are left to the regular texture data path
+        if (!extension.equals("png") && !extension.equals("jpg") && !extension.equals("jpeg") && !extension.equals("bmp")) {
+            return;
+        }
+        pixmaps.computeIfAbsent(file.path(), path -> decoder.submit(() -> new Pixmap(file)));
+    }
+
+    /**
+     * The image decoded for this file, waiting for it if it's still being decoded, or null if it
+     * wasn't prefetched. The caller owns the Pixmap.
+     */
+    public Pixmap takePixmap(FileHandle file) {
+        // The loader can get to an atlas page before the pool has parsed the atlas; the tombstone
+        // stays until the texture is unloaded and makes the pool skip the page
+        Future<Pixmap> result = pixmaps.put(file.path(), TAKEN);
+        return result == TAKEN ? null : take(result, file);
+    }
+
+    /**
+     * The compiled map read for this file, or null if it wasn't prefetched.
+     */
+    public CompiledMap takeMap(FileHandle file) {
+        return take(maps.remove(file.path()), file);
+    }
+
+    private static <T> T take(Future<T> result, FileHandle file) {
+        if (result == null) return null;
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GdxRuntimeException("Interrupted while decoding " + file);
+        } catch (ExecutionException e) {
+            throw new GdxRuntimeException("Couldn't decode " + file, e.getCause());
+        }
+    }
+
+    @Override
+    public synchronized void unload(String fileName) {
+        super.unload(fileName);
+        // Unloaded before its turn came, or done with
+        if (!contains(fileName)) {
+            String path = getFileHandleResolver().resolve(fileName).path();
+            discard(pixmaps.remove(path));
+            maps.remove(path);
+
+            String atlas = atlasOwners.remove(fileName);
+            // Maps share the tiles atlas, so its pages stay while another asset still wants them
+            if (atlas != null && !atlasOwners.containsValue(atlas, false)) {
+                discardAtlasPages(atlas);
+            }
+        }
+    }
+
+    // Frees the atlas's pages that nobody took; pages loaded as assets of their own are left alone
+    private void discardAtlasPages(String atlas) {
+        Future<List<String>> result = atlasPages.remove(atlas);
+        // Not parsed yet, so nothing was decoded
+        if (result == null || result.cancel(false)) return;
+        List<String> pages;
+        try {
+            pages = result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (ExecutionException | CancellationException e) {
+            return;
+        }
+        for (String page : pages) {
+            if (!contains(page)) {
+                discard(pixmaps.remove(page));
+            }
+        }
+    }
+
+    private static void discard(Future<Pixmap> result) {
+        // Decodes that haven't started are dropped rather than waited for
+        if (result == null || result == TAKEN || result.cancel(false)) return;
+        try {
+            result.get().dispose();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | CancellationException e) {
+            // Nothing was decoded
+        }
+    }
+
+    @Override
+    public synchronized void dispose() {
+        super.dispose();
+        // Atlases not parsed yet queue no more pages
+        for (Future<List<String>> result : atlasPages.values()) {
+            result.cancel(false);
+        }
+        decoder.shutdownNow();
+        for (Future<Pixmap> result : pixmaps.values()) {
+            discard(result);
+        }
+        pixmaps.clear();
+        maps.clear();
+        atlasPages.clear();
+        atlasOwners.clear();
+    }
+}
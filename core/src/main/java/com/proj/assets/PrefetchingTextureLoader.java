@@ -0,0 +1,81 @@
+package com.proj.assets;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.glutils.PixmapTextureData;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * TextureLoader that takes the image PrefetchingAssetManager already decoded on its pool instead of
+ * decoding it again. Images that weren't prefetched, and parameters with their own TextureData,
+ * go the same way as in TextureLoader.
+ */
+public class PrefetchingTextureLoader extends AsynchronousAssetLoader<Texture, TextureLoader.TextureParameter> {
+    // Set in loadAsync and used by loadSync, like TextureLoader's info
+    private TextureData data;
+    private Texture texture;
+
+    public PrefetchingTextureLoader(FileHandleResolver resolver) {
+        super(resolver);
+    }
+
+    @Override
+    public void loadAsync(AssetManager manager, String fileName, FileHandle file, TextureLoader.TextureParameter parameter) {
+        if (parameter != null && parameter.textureData != null) {
+            data = parameter.textureData;
+            texture = parameter.texture;
+        } else {
+            Pixmap.Format format = parameter != null ? parameter.format : null;
+            boolean genMipMaps = parameter != null && parameter.genMipMaps;
+            texture = parameter != null ? parameter.texture : null;
+
+            Pixmap pixmap = manager instanceof PrefetchingAssetManager
+                ? ((PrefetchingAssetManager) manager).takePixmap(file) : null;
+            if (pixmap != null) {
+                data = new PixmapTextureData(convert(pixmap, format), format, genMipMaps, true);
+            } else {
+                data = TextureData.Factory.loadFromFile(file, format, genMipMaps);
+            }
+        }
+        if (!data.isPrepared()) data.prepare();
+    }
+
+    // Converted here, off the render thread, like FileTextureData does
+    private static Pixmap convert(Pixmap pixmap, Pixmap.Format format) {
+        if (format == null || pixmap.getFormat() == format) return pixmap;
+        Pixmap converted = new Pixmap(pixmap.getWidth(), pixmap.getHeight(), format);
+        converted.setBlending(Pixmap.Blending.None);
+        converted.drawPixmap(pixmap, 0, 0);
+        pixmap.dispose();
+        return converted;
+    }
+
+    @Override
+    public Texture loadSync(AssetManager manager, String fileName, FileHandle file, TextureLoader.TextureParameter parameter) {
+        Texture result = texture;
+        if (result != null) {
+            result.load(data);
+        } else {
+            result = new Texture(data);
+        }
+        if (parameter != null) {
+            result.setFilter(parameter.minFilter, parameter.magFilter);
+            result.setWrap(parameter.wrapU, parameter.wrapV);
+        }
+        data = null;
+        texture = null;
+        return result;
+    }
+
+    @Override
+    public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, TextureLoader.TextureParameter parameter) {
+        return null;
+    }
+}
@@ -0,0 +1,23 @@
+package com.proj.assets;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * Lookups into the shared sprite atlas. All entity sprite sheets are regions of the same
+ * texture, so the SpriteBatch never has to flush between drawing the player and a boss.
+ */
+public class Sprites {
+    private Sprites() {
+    }
+
+    public static TextureAtlas.AtlasRegion find(AssetManager assetManager, String name) {
+        TextureAtlas atlas = assetManager.get(AssetDescriptors.SPRITES_ATLAS);
+        TextureAtlas.AtlasRegion region = atlas.findRegion(name);
+        if (region == null) {
+            throw new GdxRuntimeException("Region not found in " + AssetDescriptors.SPRITES_ATLAS.fileName + ": " + name);
+        }
+        return region;
+    }
+}
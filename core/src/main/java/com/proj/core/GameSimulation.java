@@ -0,0 +1,181 @@
+package com.proj.core;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.math.Vector2;
+import com.proj.assets.AnimationRegistry;
+import com.proj.ecs.Mappers;
+import com.proj.ecs.components.InputComponent;
+import com.proj.ecs.systems.AnimationSystem;
+import com.proj.ecs.systems.CollisionSystem;
+import com.proj.ecs.systems.HoverSystem;
+import com.proj.ecs.systems.InputSystem;
+import com.proj.ecs.systems.MovementSystem;
+import com.proj.ecs.systems.RenderSystem;
+import com.proj.ecs.systems.SnapshotSystem;
+import com.proj.ecs.systems.SpawnEffectSystem;
+import com.proj.entities.BossType;
+import com.proj.entities.EntityFactory;
+import com.proj.map.CompiledMap;
+import com.proj.map.MapInteractionHandler;
+import com.proj.util.FrameProfiler;
+
+/**
+ * The gameplay of one level without any rendering: input, fixed-step updates and collision.
+ * Entities live in an Ashley engine whose systems run once per step, in this order: snapshot,
+ * input, movement, collision, hover, spawn effect, animation. The RenderSystem is part of the
+ * engine but only draws when the screen asks it to.
+ * <p>
+ * GameScreen drives it from the render loop; the headless launcher runs it directly, with map data
+ * straight from the compiled map and a stub AnimationRegistry, so no GL context is needed.
+ */
+public class GameSimulation {
+    // The simulation advances in fixed steps; rendering interpolates between the last two
+    public static final float STEP = 1f / 60f;
+    // Steps allowed per frame before time is dropped, so a hitch can't snowball
+    public static final int MAX_STEPS = 5;
+
+    // Ashley's Family builder and its Family and ComponentType registries are static and not
+    // thread-safe, so engines and entities are only ever built by one thread at a time
+    private static final Object ENGINE_SETUP_LOCK = new Object();
+
+    private final Engine engine = new Engine();
+    private final EntityFactory factory;
+    private final RenderSystem renderSystem = new RenderSystem();
+    private FrameProfiler profiler;
+
+    private Entity player;
+    private Entity boss;
+
+    // Frame time not yet consumed by fixed steps
+    private float accumulator;
+    private long ticks;
+
+    /**
+     * handler is the map the entities collide with, or null to let them move freely.
+     */
+    public GameSimulation(AnimationRegistry animations, MapInteractionHandler handler) {
+        factory = new EntityFactory(engine, animations);
+
+        synchronized (ENGINE_SETUP_LOCK) {
+            int priority = 0;
+            engine.addSystem(new SnapshotSystem(priority++));
+            engine.addSystem(new InputSystem(priority++));
+            engine.addSystem(new MovementSystem(priority++));
+            engine.addSystem(new CollisionSystem(priority++, handler));
+            engine.addSystem(new HoverSystem(priority++));
+            engine.addSystem(new SpawnEffectSystem(priority++));
+            engine.addSystem(new AnimationSystem(priority));
+            engine.addSystem(renderSystem);
+        }
+    }
+
+    /**
+     * Set up a level from its compiled map data alone. Spawn points fall back to the same
+     * defaults as mapManager.
+     */
+    public static GameSimulation create(CompiledMap map, int level, AnimationRegistry animations, boolean isMale) {
+        Vector2 playerSpawn = new Vector2(100, 100);
+        map.findRecord(CompiledMap.PLAYER_SPAWN, playerSpawn);
+        Vector2 bossSpawn = new Vector2(200, 200);
+        map.findRecord(CompiledMap.BOSS_SPAWN, bossSpawn);
+
+        GameSimulation simulation = new GameSimulation(animations, map.createInteractionHandler());
+        simulation.spawnPlayer(playerSpawn.x, playerSpawn.y, isMale);
+        simulation.spawnBoss(level, bossSpawn.x, bossSpawn.y);
+        return simulation;
+    }
+
+    public Entity spawnPlayer(float x, float y, boolean isMale) {
+        synchronized (ENGINE_SETUP_LOCK) {
+            if (player != null) {
+                engine.removeEntity(player);
+            }
+            player = factory.createPlayer(x, y, isMale);
+        }
+        return player;
+    }
+
+    public Entity spawnBoss(int level, float x, float y) {
+        synchronized (ENGINE_SETUP_LOCK) {
+            if (boss != null) {
+                engine.removeEntity(boss);
+            }
+            boss = factory.createBoss(BossType.forLevel(level), x, y);
+        }
+        return boss;
+    }
+
+    /**
+     * Movement input applied to the player by the following steps, -1 to 1 on each axis.
+     */
+    public void setInput(float horizontalInput, float verticalInput) {
+        if (player == null) return;
+        InputComponent input = Mappers.INPUT.get(player);
+        input.horizontal = horizontalInput;
+        input.vertical = verticalInput;
+    }
+
+    /**
+     * Run as many fixed steps as the frame time covers. Returns the number of steps taken.
+     */
+    public int advance(float delta) {
+        accumulator += delta;
+        int steps = 0;
+        while (accumulator >= STEP && steps < MAX_STEPS) {
+            step();
+            accumulator -= STEP;
+            steps++;
+        }
+        if (steps == MAX_STEPS) {
+            // Fell too far behind; drop the backlog instead of trying to catch up
+            accumulator = Math.min(accumulator, STEP);
+        }
+        return steps;
+    }
+
+    /**
+     * A single fixed step.
+     */
+    public void step() {
+        if (profiler != null) profiler.begin(FrameProfiler.Phase.SIMULATION);
+        engine.update(STEP);
+        if (profiler != null) profiler.end(FrameProfiler.Phase.SIMULATION);
+        ticks++;
+    }
+
+    /**
+     * How far the leftover frame time is into the next step, 0 to 1, for interpolated rendering.
+     */
+    public float getInterpolation() {
+        return accumulator / STEP;
+    }
+
+    /**
+     * Time the systems of every step. Pass null to stop.
+     */
+    public void setProfiler(FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    public Engine getEngine() {
+        return engine;
+    }
+
+    public RenderSystem getRenderSystem() {
+        return renderSystem;
+    }
+
+    public Entity getPlayer() {
+        return player;
+    }
+
+    // Null until spawnBoss is called
+    public Entity getBoss() {
+        return boss;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+}
@@ -0,0 +1,24 @@
+package com.proj.core;
+
+import com.badlogic.gdx.Gdx;
+
+/**
+ * Whether a screen needs a frame on every refresh or only when something changes.
+ * <p>
+ * UI-only screens render on demand: the backend then only draws a frame after input events,
+ * posted runnables or Gdx.graphics.requestRendering(). scene2d actions and the TextField cursor
+ * request frames themselves while they run (Stage.getActionsRequestRendering), so transitions
+ * still animate. Screens with a game loop, a video or a progress bar render continuously.
+ * TechXplorerGame switches back to continuous rendering on every screen change, so only
+ * on-demand screens have to apply their policy.
+ */
+public enum RenderingPolicy {
+    CONTINUOUS,
+    ON_DEMAND;
+
+    public void apply() {
+        Gdx.graphics.setContinuousRendering(this == CONTINUOUS);
+        // Draw at least one frame after the switch, whatever the policy
+        Gdx.graphics.requestRendering();
+    }
+}
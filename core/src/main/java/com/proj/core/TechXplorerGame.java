@@ -2,17 +2,27 @@ package com.proj.core;
 
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.proj.assets.AnimationRegistry;
 import com.proj.assets.AssetDescriptors;
+import com.proj.assets.LevelAssets;
+import com.proj.assets.PrefetchingAssetManager;
+import com.proj.map.CompiledMapLoader;
 import com.proj.Screens.CharacterCreationScreen;
 import com.proj.Screens.CutSceneScreen;
 import com.proj.Screens.GameScreen;
 import com.proj.Screens.LoadingScreen;
 import com.proj.Screens.MainMenu;
+import com.proj.util.FrameProfiler;
+import com.proj.util.FrameProfilerOverlay;
+import com.proj.util.RenderScaler;
+import com.proj.util.StartupTrace;
 
 public class TechXplorerGame extends Game {
     // Constants
@@ -22,6 +32,16 @@ public class TechXplorerGame extends Game {
     // Core game components
     private AssetManager assetManager;
     private SpriteBatch batch;
+    private AnimationRegistry animations;
+    // Frame timings of the game screens; F3 shows them, F4 writes them to a CSV file
+    private FrameProfiler profiler;
+    private FrameProfilerOverlay profilerOverlay;
+    // Offscreen render scale of GameScreen, kept across levels; F5 changes the mode, F6 toggles dynamic scaling
+    private RenderScaler renderScaler;
+    // How long LoadingScreen lets the AssetManager finish loads (mostly GL uploads) per frame
+    private int loadingBudgetMillis = 8;
+    // Where transcoded videos are on disk outside the assets, or null if they're with the other assets
+    private String videoFolder;
 
     private String playerName = "Player";
     private boolean isMale = true;
@@ -31,10 +51,19 @@ public class TechXplorerGame extends Game {
 
     @Override
     public void create() {
+        StartupTrace.mark(StartupTrace.Milestone.GAME_CREATE);
         batch = new SpriteBatch();
-        assetManager = new AssetManager();
+        // Decodes images and maps on all cores as soon as they're queued
+        assetManager = new PrefetchingAssetManager();
+        // Clips are built on first use, once the sprite atlas is loaded
+        animations = new AnimationRegistry(assetManager);
+        profiler = new FrameProfiler();
+        profilerOverlay = new FrameProfilerOverlay(profiler);
+        renderScaler = new RenderScaler();
 
         assetManager.setLoader(TiledMap.class, new TmxMapLoader());
+        // Maps ship in the binary format written by the compileMaps Gradle task
+        assetManager.setLoader(TiledMap.class, ".tmb", new CompiledMapLoader(new InternalFileHandleResolver()));
 
         // Initialize the loading screen to load assets before the cutscene plays
         setScreen(new LoadingScreen(this));
@@ -57,6 +86,13 @@ public class TechXplorerGame extends Game {
         return isMale;
     }
 
+    @Override
+    public void setScreen(Screen screen) {
+        // Screens render every frame unless they switch to on-demand rendering in show()
+        RenderingPolicy.CONTINUOUS.apply();
+        super.setScreen(screen);
+    }
+
     /**
      * Start the main game after all resources are loaded
      * Transition to cutscene
@@ -85,9 +121,20 @@ public class TechXplorerGame extends Game {
     public void progressToNextMap() {
         if (currentMapIndex < 4) { // We have 5 maps (0-4)
             bossesDefeated[currentMapIndex] = true;
+            final int previousMapIndex = currentMapIndex;
+            final Screen previousScreen = getScreen();
             currentMapIndex++;
             // Reload game screen with new map
             setScreen(new GameScreen(this, currentMapIndex));
+
+            // Free the level we just left once the current frame is done with it.
+            // Textures the new map shares with it stay loaded.
+            Gdx.app.postRunnable(() -> {
+                if (previousScreen != null) {
+                    previousScreen.dispose();
+                }
+                LevelAssets.unload(assetManager, previousMapIndex);
+            });
         } else {
             // Game completed - could show an ending cutscene
             Gdx.app.log("TechXplorer", "Game completed! All bosses defeated.");
@@ -116,11 +163,15 @@ public class TechXplorerGame extends Game {
 
         // Render active screen
         super.render();
+        StartupTrace.mark(StartupTrace.Milestone.FIRST_FRAME);
     }
 
     @Override
     public void dispose() {
         batch.dispose();
+        profilerOverlay.dispose();
+        renderScaler.dispose();
+        animations.clear();
         assetManager.dispose();
         getScreen().dispose();
     }
@@ -133,4 +184,36 @@ public class TechXplorerGame extends Game {
     public SpriteBatch getBatch() {
         return batch;
     }
+
+    public AnimationRegistry getAnimations() {
+        return animations;
+    }
+
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
+    public FrameProfilerOverlay getProfilerOverlay() {
+        return profilerOverlay;
+    }
+
+    public RenderScaler getRenderScaler() {
+        return renderScaler;
+    }
+
+    public int getLoadingBudgetMillis() {
+        return loadingBudgetMillis;
+    }
+
+    public void setLoadingBudgetMillis(int loadingBudgetMillis) {
+        this.loadingBudgetMillis = loadingBudgetMillis;
+    }
+
+    public String getVideoFolder() {
+        return videoFolder;
+    }
+
+    public void setVideoFolder(String videoFolder) {
+        this.videoFolder = videoFolder;
+    }
 }
@@ -0,0 +1,28 @@
+package com.proj.ecs;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.proj.ecs.components.AnimationComponent;
+import com.proj.ecs.components.BossComponent;
+import com.proj.ecs.components.ColliderComponent;
+import com.proj.ecs.components.HoverComponent;
+import com.proj.ecs.components.InputComponent;
+import com.proj.ecs.components.SpawnEffectComponent;
+import com.proj.ecs.components.SpriteComponent;
+import com.proj.ecs.components.TransformComponent;
+import com.proj.ecs.components.VelocityComponent;
+
+/** Shared component mappers, so lookups don't go through the class map. */
+public final class Mappers {
+    public static final ComponentMapper<TransformComponent> TRANSFORM = ComponentMapper.getFor(TransformComponent.class);
+    public static final ComponentMapper<VelocityComponent> VELOCITY = ComponentMapper.getFor(VelocityComponent.class);
+    public static final ComponentMapper<ColliderComponent> COLLIDER = ComponentMapper.getFor(ColliderComponent.class);
+    public static final ComponentMapper<InputComponent> INPUT = ComponentMapper.getFor(InputComponent.class);
+    public static final ComponentMapper<AnimationComponent> ANIMATION = ComponentMapper.getFor(AnimationComponent.class);
+    public static final ComponentMapper<SpriteComponent> SPRITE = ComponentMapper.getFor(SpriteComponent.class);
+    public static final ComponentMapper<HoverComponent> HOVER = ComponentMapper.getFor(HoverComponent.class);
+    public static final ComponentMapper<SpawnEffectComponent> SPAWN_EFFECT = ComponentMapper.getFor(SpawnEffectComponent.class);
+    public static final ComponentMapper<BossComponent> BOSS = ComponentMapper.getFor(BossComponent.class);
+
+    private Mappers() {
+    }
+}
@@ -0,0 +1,15 @@
+package com.proj.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+import com.proj.assets.AnimationClip;
+
+/**
+ * The clips an entity can play and which one is current. While not playing, the first frame
+ * of the current clip is shown.
+ */
+public class AnimationComponent implements Component {
+    public AnimationClip[] clips;
+    public int clip;
+    public float stateTime;
+    public boolean playing = true;
+}
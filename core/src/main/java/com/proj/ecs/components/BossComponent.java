@@ -0,0 +1,9 @@
+package com.proj.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+import com.proj.entities.BossType;
+
+/** Marks the level's boss. */
+public class BossComponent implements Component {
+    public BossType type;
+}
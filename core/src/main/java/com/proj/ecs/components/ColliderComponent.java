@@ -0,0 +1,26 @@
+package com.proj.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * The box that collides with the map, relative to the entity's position.
+ */
+public class ColliderComponent implements Component {
+    public float offsetX;
+    public float offsetY;
+    public float width;
+    public float height;
+
+    public ColliderComponent set(float offsetX, float offsetY, float width, float height) {
+        this.offsetX = offsetX;
+        this.offsetY = offsetY;
+        this.width = width;
+        this.height = height;
+        return this;
+    }
+
+    public Rectangle getBounds(TransformComponent transform, Rectangle out) {
+        return out.set(transform.x + offsetX, transform.y + offsetY, width, height);
+    }
+}
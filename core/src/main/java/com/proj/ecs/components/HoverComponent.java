@@ -0,0 +1,12 @@
+package com.proj.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+
+/** Bobs the entity up and down around baseY. */
+public class HoverComponent implements Component {
+    public float baseY;
+    public float amplitude;
+    // Radians per second
+    public float speed;
+    public float time;
+}
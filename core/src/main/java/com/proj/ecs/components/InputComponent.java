@@ -0,0 +1,18 @@
+package com.proj.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * Movement input for an entity, -1 to 1 on each axis, and the direction it ends up facing.
+ */
+public class InputComponent implements Component {
+    public enum Direction {
+        UP, DOWN, LEFT, RIGHT
+    }
+
+    public float horizontal;
+    public float vertical;
+    // Pixels per second at full input
+    public float speed;
+    public Direction direction = Direction.DOWN;
+}
@@ -0,0 +1,9 @@
+package com.proj.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+
+/** Fades and grows the sprite in; removed once the effect is over. */
+public class SpawnEffectComponent implements Component {
+    public float time;
+    public float duration;
+}
@@ -0,0 +1,18 @@
+package com.proj.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * What the render system draws at the entity's transform. Scale is around the centre.
+ * A glow is a second, larger and fainter copy drawn on top while glowAlpha is above zero.
+ */
+public class SpriteComponent implements Component {
+    public TextureRegion region;
+    // Lower layers are drawn first
+    public int layer;
+    public float scale = 1f;
+    public float alpha = 1f;
+    public float glowScale = 1f;
+    public float glowAlpha;
+}
@@ -0,0 +1,41 @@
+package com.proj.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * Where an entity is and how big it's drawn. The position from the start of the current step is
+ * kept for interpolated rendering and swept collision.
+ */
+public class TransformComponent implements Component {
+    public float x;
+    public float y;
+    public float previousX;
+    public float previousY;
+    public float width;
+    public float height;
+
+    public TransformComponent set(float x, float y, float width, float height) {
+        this.width = width;
+        this.height = height;
+        return teleport(x, y);
+    }
+
+    /**
+     * Move without interpolating from the old position.
+     */
+    public TransformComponent teleport(float x, float y) {
+        this.x = x;
+        this.y = y;
+        this.previousX = x;
+        this.previousY = y;
+        return this;
+    }
+
+    public float getRenderX(float interpolation) {
+        return previousX + (x - previousX) * interpolation;
+    }
+
+    public float getRenderY(float interpolation) {
+        return previousY + (y - previousY) * interpolation;
+    }
+}
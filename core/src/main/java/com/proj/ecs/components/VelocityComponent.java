@@ -0,0 +1,9 @@
+package com.proj.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+
+/** Movement in pixels per second. */
+public class VelocityComponent implements Component {
+    public float x;
+    public float y;
+}
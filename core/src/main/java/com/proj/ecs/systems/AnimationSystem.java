@@ -0,0 +1,27 @@
+package com.proj.ecs.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.proj.assets.AnimationClip;
+import com.proj.ecs.Mappers;
+import com.proj.ecs.components.AnimationComponent;
+import com.proj.ecs.components.SpriteComponent;
+
+/**
+ * Advances animations and puts the current frame into the sprite.
+ */
+public class AnimationSystem extends IteratingSystem {
+    public AnimationSystem(int priority) {
+        super(Family.all(AnimationComponent.class, SpriteComponent.class).get(), priority);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        AnimationComponent animation = Mappers.ANIMATION.get(entity);
+        animation.stateTime += deltaTime;
+
+        AnimationClip clip = animation.clips[animation.clip];
+        Mappers.SPRITE.get(entity).region = animation.playing ? clip.getKeyFrame(animation.stateTime) : clip.getFrame(0);
+    }
+}
@@ -0,0 +1,50 @@
+package com.proj.ecs.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.math.Vector2;
+import com.proj.ecs.Mappers;
+import com.proj.ecs.components.ColliderComponent;
+import com.proj.ecs.components.TransformComponent;
+import com.proj.map.MapInteractionHandler;
+
+/**
+ * Sweeps the collider of every entity that moved this step from its previous position to the
+ * new one, and stops it at the walls of the map.
+ */
+public class CollisionSystem extends IteratingSystem {
+    private MapInteractionHandler handler;
+    private final Vector2 from = new Vector2();
+    private final Vector2 to = new Vector2();
+
+    public CollisionSystem(int priority, MapInteractionHandler handler) {
+        super(Family.all(TransformComponent.class, ColliderComponent.class).get(), priority);
+        this.handler = handler;
+    }
+
+    public void setHandler(MapInteractionHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public boolean checkProcessing() {
+        return handler != null;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        TransformComponent transform = Mappers.TRANSFORM.get(entity);
+        if (transform.x == transform.previousX && transform.y == transform.previousY) return;
+
+        // The handler works with the centre of the box
+        ColliderComponent collider = Mappers.COLLIDER.get(entity);
+        float centerX = collider.offsetX + collider.width / 2;
+        float centerY = collider.offsetY + collider.height / 2;
+        from.set(transform.previousX + centerX, transform.previousY + centerY);
+        to.set(transform.x + centerX, transform.y + centerY);
+        handler.adjustPositionForCollision(from, to, collider.width, collider.height);
+        transform.x = to.x - centerX;
+        transform.y = to.y - centerY;
+    }
+}
@@ -0,0 +1,22 @@
+package com.proj.ecs.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.math.MathUtils;
+import com.proj.ecs.Mappers;
+import com.proj.ecs.components.HoverComponent;
+import com.proj.ecs.components.TransformComponent;
+
+public class HoverSystem extends IteratingSystem {
+    public HoverSystem(int priority) {
+        super(Family.all(TransformComponent.class, HoverComponent.class).get(), priority);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        HoverComponent hover = Mappers.HOVER.get(entity);
+        hover.time += deltaTime;
+        Mappers.TRANSFORM.get(entity).y = hover.baseY + hover.amplitude * MathUtils.sin(hover.time * hover.speed);
+    }
+}
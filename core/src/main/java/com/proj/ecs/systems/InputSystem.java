@@ -0,0 +1,43 @@
+package com.proj.ecs.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.proj.ecs.Mappers;
+import com.proj.ecs.components.AnimationComponent;
+import com.proj.ecs.components.InputComponent;
+import com.proj.ecs.components.VelocityComponent;
+
+/**
+ * Turns movement input into velocity and a facing direction. Entities with an animation play
+ * the walk clip of that direction (clips are indexed by Direction) while they move.
+ */
+public class InputSystem extends IteratingSystem {
+    public InputSystem(int priority) {
+        super(Family.all(InputComponent.class, VelocityComponent.class).get(), priority);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        InputComponent input = Mappers.INPUT.get(entity);
+        VelocityComponent velocity = Mappers.VELOCITY.get(entity);
+        boolean moving = input.horizontal != 0 || input.vertical != 0;
+
+        if (moving) {
+            // The stronger axis decides which way the entity faces; vertical wins ties
+            if (Math.abs(input.horizontal) > Math.abs(input.vertical)) {
+                input.direction = input.horizontal > 0 ? InputComponent.Direction.RIGHT : InputComponent.Direction.LEFT;
+            } else {
+                input.direction = input.vertical > 0 ? InputComponent.Direction.UP : InputComponent.Direction.DOWN;
+            }
+        }
+        velocity.x = input.horizontal * input.speed;
+        velocity.y = input.vertical * input.speed;
+
+        AnimationComponent animation = Mappers.ANIMATION.get(entity);
+        if (animation != null) {
+            animation.clip = input.direction.ordinal();
+            animation.playing = moving;
+        }
+    }
+}
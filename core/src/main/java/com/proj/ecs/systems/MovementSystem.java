@@ -0,0 +1,25 @@
+package com.proj.ecs.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.proj.ecs.Mappers;
+import com.proj.ecs.components.TransformComponent;
+import com.proj.ecs.components.VelocityComponent;
+
+/**
+ * Moves entities by their velocity. Walls are handled afterwards by the CollisionSystem.
+ */
+public class MovementSystem extends IteratingSystem {
+    public MovementSystem(int priority) {
+        super(Family.all(TransformComponent.class, VelocityComponent.class).get(), priority);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        TransformComponent transform = Mappers.TRANSFORM.get(entity);
+        VelocityComponent velocity = Mappers.VELOCITY.get(entity);
+        transform.x += velocity.x * deltaTime;
+        transform.y += velocity.y * deltaTime;
+    }
+}
@@ -0,0 +1,98 @@
+package com.proj.ecs.systems;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.proj.ecs.Mappers;
+import com.proj.ecs.components.SpriteComponent;
+import com.proj.ecs.components.TransformComponent;
+
+import java.util.Comparator;
+
+/**
+ * Draws every sprite at its interpolated position. Sprites are sorted by layer and then by
+ * texture, so entities sharing a texture are drawn together and the batch flushes as rarely
+ * as possible.
+ * <p>
+ * Rendering runs once per frame rather than once per step, so the engine doesn't process this
+ * system; the screen calls {@link #render(SpriteBatch, float)} itself.
+ */
+public class RenderSystem extends EntitySystem {
+    private static final float WHITE = Color.WHITE.toFloatBits();
+
+    private ImmutableArray<Entity> entities;
+    private final Array<Entity> sorted = new Array<>(false, 64, Entity.class);
+    private final Comparator<Entity> comparator = (a, b) -> {
+        SpriteComponent spriteA = Mappers.SPRITE.get(a);
+        SpriteComponent spriteB = Mappers.SPRITE.get(b);
+        if (spriteA.layer != spriteB.layer) {
+            return Integer.compare(spriteA.layer, spriteB.layer);
+        }
+        return Integer.compare(textureHandle(spriteA.region), textureHandle(spriteB.region));
+    };
+
+    public RenderSystem() {
+        setProcessing(false);
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        entities = engine.getEntitiesFor(Family.all(TransformComponent.class, SpriteComponent.class).get());
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        entities = null;
+        sorted.clear();
+    }
+
+    private static int textureHandle(TextureRegion region) {
+        Texture texture = region == null ? null : region.getTexture();
+        return texture == null ? 0 : texture.getTextureObjectHandle();
+    }
+
+    /**
+     * Draw into a batch that is already drawing.
+     */
+    public void render(SpriteBatch batch, float interpolation) {
+        if (entities == null) return;
+
+        sorted.clear();
+        for (int i = 0; i < entities.size(); i++) {
+            sorted.add(entities.get(i));
+        }
+        sorted.sort(comparator);
+
+        for (int i = 0; i < sorted.size; i++) {
+            Entity entity = sorted.get(i);
+            SpriteComponent sprite = Mappers.SPRITE.get(entity);
+            if (sprite.region == null) continue;
+
+            TransformComponent transform = Mappers.TRANSFORM.get(entity);
+            float x = transform.getRenderX(interpolation);
+            float y = transform.getRenderY(interpolation);
+
+            draw(batch, sprite.region, x, y, transform.width, transform.height, sprite.scale, sprite.alpha);
+            if (sprite.glowAlpha > 0) {
+                draw(batch, sprite.region, x, y, transform.width, transform.height, sprite.glowScale, sprite.glowAlpha);
+            }
+        }
+        batch.setPackedColor(WHITE);
+    }
+
+    // Scales around the centre of the entity's box
+    private static void draw(SpriteBatch batch, TextureRegion region, float x, float y, float width, float height,
+                             float scale, float alpha) {
+        batch.setColor(1f, 1f, 1f, alpha);
+        float scaledWidth = width * scale;
+        float scaledHeight = height * scale;
+        batch.draw(region, x + (width - scaledWidth) / 2, y + (height - scaledHeight) / 2, scaledWidth, scaledHeight);
+    }
+}
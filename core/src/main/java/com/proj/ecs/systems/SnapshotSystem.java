@@ -0,0 +1,23 @@
+package com.proj.ecs.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.proj.ecs.Mappers;
+import com.proj.ecs.components.TransformComponent;
+
+/**
+ * Remembers every position at the start of a step, before anything moves.
+ */
+public class SnapshotSystem extends IteratingSystem {
+    public SnapshotSystem(int priority) {
+        super(Family.all(TransformComponent.class).get(), priority);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        TransformComponent transform = Mappers.TRANSFORM.get(entity);
+        transform.previousX = transform.x;
+        transform.previousY = transform.y;
+    }
+}
@@ -0,0 +1,39 @@
+package com.proj.ecs.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.math.MathUtils;
+import com.proj.ecs.Mappers;
+import com.proj.ecs.components.SpawnEffectComponent;
+import com.proj.ecs.components.SpriteComponent;
+
+/**
+ * Grows and fades a sprite in over the effect's duration, with a fading glow for the first half.
+ */
+public class SpawnEffectSystem extends IteratingSystem {
+    public SpawnEffectSystem(int priority) {
+        super(Family.all(SpawnEffectComponent.class, SpriteComponent.class).get(), priority);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        SpawnEffectComponent effect = Mappers.SPAWN_EFFECT.get(entity);
+        SpriteComponent sprite = Mappers.SPRITE.get(entity);
+
+        effect.time += deltaTime;
+        if (effect.time >= effect.duration) {
+            sprite.scale = 1f;
+            sprite.alpha = 1f;
+            sprite.glowAlpha = 0f;
+            entity.remove(SpawnEffectComponent.class);
+            return;
+        }
+
+        float progress = effect.time / effect.duration;
+        sprite.scale = MathUtils.lerp(0.4f, 1.0f, progress);
+        sprite.alpha = MathUtils.lerp(0.3f, 1.0f, progress);
+        sprite.glowScale = sprite.scale * 1.2f;
+        sprite.glowAlpha = progress < 0.5f ? 0.3f * (1 - progress * 2) : 0f;
+    }
+}
@@ -0,0 +1,39 @@
+package com.proj.entities;
+
+import com.proj.assets.AssetDescriptors;
+
+/**
+ * The boss of each level, in level order.
+ */
+public enum BossType {
+    STEELWARD(AssetDescriptors.BOSS_STEELWARD,
+        "SteelWard", "A powerful PC Case robot with tough armor."),
+    BLAZECINDER(AssetDescriptors.BOSS_BLAZECINDER,
+        "BlazeCinder", "A fiery cooling system robot that overheats its surroundings."),
+    MEMORIX(AssetDescriptors.BOSS_MEMORIX,
+        "Memorix", "A devious storage device robot with incredible memory."),
+    GLITCHRON(AssetDescriptors.BOSS_GLITCHRON,
+        "Glitchron", "A powerful PSU and motherboard robot that controls energy flow."),
+    EXODUS(AssetDescriptors.BOSS_EXODUS,
+        "EXODUS", "The final boss, a menacing AI determined to control the world.");
+
+    private static final BossType[] VALUES = values();
+
+    // Region of the idle sheet in the sprite atlas
+    public final String regionName;
+    public final String displayName;
+    public final String description;
+
+    BossType(String regionName, String displayName, String description) {
+        this.regionName = regionName;
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    /**
+     * The boss of a level. Unknown levels get SteelWard.
+     */
+    public static BossType forLevel(int level) {
+        return level >= 0 && level < VALUES.length ? VALUES[level] : STEELWARD;
+    }
+}
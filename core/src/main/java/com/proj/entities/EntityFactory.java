@@ -0,0 +1,125 @@
+package com.proj.entities;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.proj.assets.AnimationClip;
+import com.proj.assets.AnimationRegistry;
+import com.proj.assets.AssetDescriptors;
+import com.proj.ecs.components.AnimationComponent;
+import com.proj.ecs.components.BossComponent;
+import com.proj.ecs.components.ColliderComponent;
+import com.proj.ecs.components.HoverComponent;
+import com.proj.ecs.components.InputComponent;
+import com.proj.ecs.components.SpawnEffectComponent;
+import com.proj.ecs.components.SpriteComponent;
+import com.proj.ecs.components.TransformComponent;
+import com.proj.ecs.components.VelocityComponent;
+
+/**
+ * Builds the player and boss entities out of components. Clips come from the AnimationRegistry,
+ * so every entity using the same sheet shares them.
+ */
+public class EntityFactory {
+    // Draw order
+    public static final int LAYER_BOSS = 0;
+    public static final int LAYER_PLAYER = 1;
+
+    // Player sheets: 4 by 4, rows are down, left, right, up
+    private static final int PLAYER_COLS = 4;
+    private static final int PLAYER_ROWS = 4;
+    private static final float PLAYER_FRAME_DURATION = 0.1f;
+    private static final float PLAYER_SIZE = 32f;
+    private static final float PLAYER_SPEED = 120f; // pixels per second
+
+    // Boss sheets: a single idle row
+    private static final int BOSS_COLS = 4;
+    private static final int BOSS_ROWS = 1;
+    private static final float BOSS_FRAME_DURATION = 0.15f;
+    private static final float BOSS_SIZE = 64f; // Bosses are larger than the player
+    private static final float BOSS_HOVER_AMPLITUDE = 5f;
+    private static final float BOSS_HOVER_SPEED = 2f;
+    private static final float BOSS_SPAWN_DURATION = 1.5f;
+
+    private final Engine engine;
+    private final AnimationRegistry animations;
+
+    public EntityFactory(Engine engine, AnimationRegistry animations) {
+        this.engine = engine;
+        this.animations = animations;
+    }
+
+    public Entity createPlayer(float x, float y, boolean isMale) {
+        Entity entity = engine.createEntity();
+        entity.add(engine.createComponent(TransformComponent.class).set(x, y, PLAYER_SIZE, PLAYER_SIZE));
+        entity.add(engine.createComponent(VelocityComponent.class));
+
+        InputComponent input = engine.createComponent(InputComponent.class);
+        input.speed = PLAYER_SPEED;
+        entity.add(input);
+
+        // Feet box: the lower half, narrowed a little on both sides
+        entity.add(engine.createComponent(ColliderComponent.class)
+            .set(4, 0, PLAYER_SIZE - 8, PLAYER_SIZE / 2));
+
+        // One walk clip per direction, indexed by InputComponent.Direction
+        String sheet = isMale ? AssetDescriptors.PLAYER_MALE : AssetDescriptors.PLAYER_FEMALE;
+        AnimationClip[] clips = new AnimationClip[InputComponent.Direction.values().length];
+        clips[InputComponent.Direction.DOWN.ordinal()] = walkClip(sheet, 0);
+        clips[InputComponent.Direction.LEFT.ordinal()] = walkClip(sheet, 1);
+        clips[InputComponent.Direction.RIGHT.ordinal()] = walkClip(sheet, 2);
+        clips[InputComponent.Direction.UP.ordinal()] = walkClip(sheet, 3);
+        AnimationComponent animation = engine.createComponent(AnimationComponent.class);
+        animation.clips = clips;
+        animation.clip = input.direction.ordinal();
+        animation.playing = false;
+        entity.add(animation);
+
+        SpriteComponent sprite = engine.createComponent(SpriteComponent.class);
+        sprite.region = clips[animation.clip].getFrame(0);
+        sprite.layer = LAYER_PLAYER;
+        entity.add(sprite);
+
+        engine.addEntity(entity);
+        return entity;
+    }
+
+    private AnimationClip walkClip(String sheet, int row) {
+        return animations.getClip(sheet, PLAYER_COLS, PLAYER_ROWS, row, PLAYER_FRAME_DURATION);
+    }
+
+    public Entity createBoss(BossType type, float x, float y) {
+        Entity entity = engine.createEntity();
+        entity.add(engine.createComponent(TransformComponent.class).set(x, y, BOSS_SIZE, BOSS_SIZE));
+
+        AnimationComponent animation = engine.createComponent(AnimationComponent.class);
+        animation.clips = new AnimationClip[]{
+            animations.getClip(type.regionName, BOSS_COLS, BOSS_ROWS, 0, BOSS_FRAME_DURATION)
+        };
+        entity.add(animation);
+
+        SpriteComponent sprite = engine.createComponent(SpriteComponent.class);
+        sprite.region = animation.clips[0].getFrame(0);
+        sprite.layer = LAYER_BOSS;
+        // Where the spawn effect starts
+        sprite.scale = 0.4f;
+        sprite.alpha = 0.3f;
+        entity.add(sprite);
+
+        HoverComponent hover = engine.createComponent(HoverComponent.class);
+        hover.baseY = y;
+        hover.amplitude = BOSS_HOVER_AMPLITUDE;
+        hover.speed = BOSS_HOVER_SPEED;
+        entity.add(hover);
+
+        SpawnEffectComponent spawn = engine.createComponent(SpawnEffectComponent.class);
+        spawn.duration = BOSS_SPAWN_DURATION;
+        entity.add(spawn);
+
+        BossComponent boss = engine.createComponent(BossComponent.class);
+        boss.type = type;
+        entity.add(boss);
+
+        engine.addEntity(entity);
+        return entity;
+    }
+}
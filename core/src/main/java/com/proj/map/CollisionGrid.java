@@ -0,0 +1,140 @@
+package com.proj.map;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Uniform grid over a fixed set of collision rectangles.
+ * The grid is built once when a map is loaded; every cell keeps the indices of the
+ * rectangles that touch it, so an overlap query only visits the cells covered by
+ * the query bounds instead of scanning every rectangle on the map.
+ */
+public class CollisionGrid {
+    private final float cellSize;
+
+    // Rectangles packed as x, y, width, height
+    private float[] rects = new float[0];
+    private int rectCount;
+
+    // Grid extents in world units
+    private float originX;
+    private float originY;
+    private int columns;
+    private int rows;
+
+    // Cell c owns cellItems[cellStart[c]] .. cellItems[cellStart[c + 1] - 1]
+    private int[] cellStart = new int[1];
+    private int[] cellItems = new int[0];
+
+    public CollisionGrid(float cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive");
+        }
+        this.cellSize = cellSize;
+    }
+
+    public void build(Array<Rectangle> rectangles) {
+        rectCount = rectangles.size;
+        rects = new float[rectCount * 4];
+        columns = 0;
+        rows = 0;
+        if (rectCount == 0) {
+            cellStart = new int[1];
+            cellItems = new int[0];
+            return;
+        }
+
+        // Find the extents covered by the rectangles
+        float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE;
+        float maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+        for (int i = 0; i < rectCount; i++) {
+            Rectangle rect = rectangles.get(i);
+            rects[i * 4] = rect.x;
+            rects[i * 4 + 1] = rect.y;
+            rects[i * 4 + 2] = rect.width;
+            rects[i * 4 + 3] = rect.height;
+            minX = Math.min(minX, rect.x);
+            minY = Math.min(minY, rect.y);
+            maxX = Math.max(maxX, rect.x + rect.width);
+            maxY = Math.max(maxY, rect.y + rect.height);
+        }
+
+        originX = minX;
+        originY = minY;
+        columns = Math.max(1, (int) Math.ceil((maxX - minX) / cellSize));
+        rows = Math.max(1, (int) Math.ceil((maxY - minY) / cellSize));
+
+        // First pass counts the rectangles per cell, second pass fills them in
+        cellStart = new int[columns * rows + 1];
+        for (int i = 0; i < rectCount; i++) {
+            int x0 = cellX(rects[i * 4]), x1 = cellX(rects[i * 4] + rects[i * 4 + 2]);
+            int y0 = cellY(rects[i * 4 + 1]), y1 = cellY(rects[i * 4 + 1] + rects[i * 4 + 3]);
+            for (int cy = y0; cy <= y1; cy++) {
+                for (int cx = x0; cx <= x1; cx++) {
+                    cellStart[cy * columns + cx + 1]++;
+                }
+            }
+        }
+        for (int c = 1; c < cellStart.length; c++) {
+            cellStart[c] += cellStart[c - 1];
+        }
+
+        cellItems = new int[cellStart[cellStart.length - 1]];
+        int[] fill = new int[columns * rows];
+        for (int i = 0; i < rectCount; i++) {
+            int x0 = cellX(rects[i * 4]), x1 = cellX(rects[i * 4] + rects[i * 4 + 2]);
+            int y0 = cellY(rects[i * 4 + 1]), y1 = cellY(rects[i * 4 + 1] + rects[i * 4 + 3]);
+            for (int cy = y0; cy <= y1; cy++) {
+                for (int cx = x0; cx <= x1; cx++) {
+                    int cell = cy * columns + cx;
+                    cellItems[cellStart[cell] + fill[cell]++] = i;
+                }
+            }
+        }
+    }
+
+    public boolean overlaps(Rectangle bounds) {
+        return overlaps(bounds.x, bounds.y, bounds.width, bounds.height);
+    }
+
+    public boolean overlaps(float x, float y, float width, float height) {
+        if (rectCount == 0) return false;
+
+        // Nothing can be hit outside the grid extents
+        if (x > originX + columns * cellSize || x + width < originX
+            || y > originY + rows * cellSize || y + height < originY) {
+            return false;
+        }
+
+        int x0 = cellX(x), x1 = cellX(x + width);
+        int y0 = cellY(y), y1 = cellY(y + height);
+        for (int cy = y0; cy <= y1; cy++) {
+            for (int cx = x0; cx <= x1; cx++) {
+                int cell = cy * columns + cx;
+                for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                    int r = cellItems[i] * 4;
+                    // Same test as Rectangle.overlaps
+                    if (x < rects[r] + rects[r + 2] && x + width > rects[r]
+                        && y < rects[r + 1] + rects[r + 3] && y + height > rects[r + 1]) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    public int getRectangleCount() {
+        return rectCount;
+    }
+
+    private int cellX(float x) {
+        int cx = (int) ((x - originX) / cellSize);
+        return Math.max(0, Math.min(columns - 1, cx));
+    }
+
+    private int cellY(float y) {
+        int cy = (int) ((y - originY) / cellSize);
+        return Math.max(0, Math.min(rows - 1, cy));
+    }
+}
@@ -0,0 +1,166 @@
+package com.proj.map;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Solid/empty flags for every tile of a collision tile layer, packed one bit per tile.
+ * Tile (x, y) is bit {@code y * width + x}, using the same bottom-up rows as libGDX tile layers.
+ */
+public class CollisionMask {
+    private final int width;
+    private final int height;
+    private final float tileWidth;
+    private final float tileHeight;
+    private final long[] bits;
+
+    public CollisionMask(int width, int height, float tileWidth, float tileHeight) {
+        this.width = width;
+        this.height = height;
+        this.tileWidth = tileWidth;
+        this.tileHeight = tileHeight;
+        this.bits = new long[(width * height + 63) >>> 6];
+    }
+
+    /**
+     * Compile a tile layer into a mask; any cell holding a tile counts as solid.
+     * Returns null if there is no layer.
+     */
+    public static CollisionMask fromLayer(TiledMapTileLayer layer) {
+        if (layer == null) return null;
+
+        CollisionMask mask = new CollisionMask(layer.getWidth(), layer.getHeight(),
+            layer.getTileWidth(), layer.getTileHeight());
+        for (int y = 0; y < layer.getHeight(); y++) {
+            for (int x = 0; x < layer.getWidth(); x++) {
+                TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+                if (cell != null && cell.getTile() != null) {
+                    mask.setSolid(x, y);
+                }
+            }
+        }
+        return mask;
+    }
+
+    public void setSolid(int tileX, int tileY) {
+        int index = tileY * width + tileX;
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    public boolean isSolid(int tileX, int tileY) {
+        if (tileX < 0 || tileY < 0 || tileX >= width || tileY >= height) return false;
+        int index = tileY * width + tileX;
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Greedy meshing: cover the solid tiles with as few rectangles as possible.
+     * Each run of solid tiles in a row is grown upwards while the rows above are solid
+     * over the same span. Rectangles are added to out in world units, which is returned.
+     */
+    public Array<Rectangle> mergeSolidTiles(Array<Rectangle> out) {
+        long[] remaining = bits.clone();
+
+        for (int y = 0; y < height; y++) {
+            int x = 0;
+            while (x < width) {
+                if (!isSet(remaining, y * width + x)) {
+                    x++;
+                    continue;
+                }
+
+                // Widen along the row
+                int runEnd = x + 1;
+                while (runEnd < width && isSet(remaining, y * width + runEnd)) {
+                    runEnd++;
+                }
+
+                // Grow upwards while the whole span is still free and solid
+                int top = y + 1;
+                while (top < height && isRunSet(remaining, top * width + x, top * width + runEnd - 1)) {
+                    top++;
+                }
+
+                for (int row = y; row < top; row++) {
+                    for (int col = x; col < runEnd; col++) {
+                        int index = row * width + col;
+                        remaining[index >>> 6] &= ~(1L << index);
+                    }
+                }
+
+                out.add(new Rectangle(x * tileWidth, y * tileHeight,
+                    (runEnd - x) * tileWidth, (top - y) * tileHeight));
+                x = runEnd;
+            }
+        }
+        return out;
+    }
+
+    private static boolean isSet(long[] words, int index) {
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private static boolean isRunSet(long[] words, int from, int to) {
+        for (int i = from; i <= to; i++) {
+            if (!isSet(words, i)) return false;
+        }
+        return true;
+    }
+
+    public boolean overlaps(Rectangle bounds) {
+        return overlaps(bounds.x, bounds.y, bounds.width, bounds.height);
+    }
+
+    /**
+     * AABB test against the solid tiles. Touching edges do not count, matching Rectangle.overlaps.
+     */
+    public boolean overlaps(float x, float y, float w, float h) {
+        int tx0 = Math.max(0, (int) Math.floor(x / tileWidth));
+        int tx1 = Math.min(width - 1, (int) Math.ceil((x + w) / tileWidth) - 1);
+        int ty0 = Math.max(0, (int) Math.floor(y / tileHeight));
+        int ty1 = Math.min(height - 1, (int) Math.ceil((y + h) / tileHeight) - 1);
+        if (tx0 > tx1 || ty0 > ty1) return false;
+
+        for (int ty = ty0; ty <= ty1; ty++) {
+            int rowStart = ty * width;
+            if (anySet(rowStart + tx0, rowStart + tx1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Tests the inclusive bit range [from, to] a word at a time
+    private boolean anySet(int from, int to) {
+        int firstWord = from >>> 6;
+        int lastWord = to >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> (63 - (to & 63));
+
+        if (firstWord == lastWord) {
+            return (bits[firstWord] & firstMask & lastMask) != 0;
+        }
+        if ((bits[firstWord] & firstMask) != 0) return true;
+        for (int w = firstWord + 1; w < lastWord; w++) {
+            if (bits[w] != 0) return true;
+        }
+        return (bits[lastWord] & lastMask) != 0;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public float getTileWidth() {
+        return tileWidth;
+    }
+
+    public float getTileHeight() {
+        return tileHeight;
+    }
+}
@@ -0,0 +1,225 @@
+package com.proj.map;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Map data read from the binary files produced by the compileMaps Gradle task.
+ * Everything here is plain data, so it can be used without a GL context.
+ * <p>
+ * Layout (big-endian), kept in sync with compileMaps in the root build.gradle:
+ * <pre>
+ * int    magic 'TXM1', short version
+ * int    width, height, tileWidth, tileHeight
+ * int    tileset count, then per tileset:
+ *          int firstGid, tileWidth, tileHeight, spacing, margin, columns, tileCount; string imagePath
+ * int    layer count, then per tile layer:
+ *          string name; byte visible; float opacity, offsetX, offsetY; int[width * height] gids
+ * int    floor, wall and collision layer index (-1 if missing)
+ * int    record count, then per record: byte type; float x, y, width, height
+ * </pre>
+ * Strings are a short byte length followed by UTF-8. Gid rows run bottom-up like libGDX tile layers
+ * and keep the Tiled flip flags. Record coordinates are already in libGDX's y-up space.
+ */
+public class CompiledMap {
+    public static final int MAGIC = 0x54584D31;
+    public static final int VERSION = 1;
+
+    // Record types
+    public static final byte COLLISION = 0;
+    public static final byte PLAYER_SPAWN = 1;
+    public static final byte BOSS_SPAWN = 2;
+    public static final byte TELEPORT = 3;
+
+    // Tiled gid flags
+    public static final int FLAG_FLIP_HORIZONTALLY = 0x80000000;
+    public static final int FLAG_FLIP_VERTICALLY = 0x40000000;
+    public static final int FLAG_FLIP_DIAGONALLY = 0x20000000;
+    public static final int MASK_CLEAR = 0xE0000000;
+
+    public static class Tileset {
+        public int firstGid;
+        public int tileWidth;
+        public int tileHeight;
+        public int spacing;
+        public int margin;
+        public int columns;
+        public int tileCount;
+        public String imagePath;
+    }
+
+    public static class Layer {
+        public String name;
+        public boolean visible;
+        public float opacity;
+        public float offsetX;
+        public float offsetY;
+        public int[] gids;
+    }
+
+    public int width;
+    public int height;
+    public int tileWidth;
+    public int tileHeight;
+    public Tileset[] tilesets;
+    public Layer[] layers;
+    public int floorLayer;
+    public int wallLayer;
+    public int collisionLayer;
+
+    // Records as parallel primitive arrays; bounds are x, y, width, height
+    public byte[] recordTypes;
+    public float[] recordBounds;
+
+    public static CompiledMap read(FileHandle file) {
+        ByteBuffer buffer;
+        try {
+            // Memory-mapped when the file is on disk; classpath files have to be copied
+            buffer = file.map();
+        } catch (GdxRuntimeException e) {
+            buffer = ByteBuffer.wrap(file.readBytes());
+        }
+        try {
+            return read(buffer);
+        } catch (RuntimeException e) {
+            throw new GdxRuntimeException("Couldn't read compiled map: " + file, e);
+        }
+    }
+
+    public static CompiledMap read(ByteBuffer buffer) {
+        if (buffer.getInt() != MAGIC) {
+            throw new GdxRuntimeException("Not a compiled map");
+        }
+        int version = buffer.getShort();
+        if (version != VERSION) {
+            throw new GdxRuntimeException("Unsupported compiled map version " + version + ", rebuild the maps");
+        }
+
+        CompiledMap map = new CompiledMap();
+        map.width = buffer.getInt();
+        map.height = buffer.getInt();
+        map.tileWidth = buffer.getInt();
+        map.tileHeight = buffer.getInt();
+
+        map.tilesets = new Tileset[buffer.getInt()];
+        for (int i = 0; i < map.tilesets.length; i++) {
+            Tileset tileset = new Tileset();
+            tileset.firstGid = buffer.getInt();
+            tileset.tileWidth = buffer.getInt();
+            tileset.tileHeight = buffer.getInt();
+            tileset.spacing = buffer.getInt();
+            tileset.margin = buffer.getInt();
+            tileset.columns = buffer.getInt();
+            tileset.tileCount = buffer.getInt();
+            tileset.imagePath = readString(buffer);
+            map.tilesets[i] = tileset;
+        }
+
+        int cellCount = map.width * map.height;
+        map.layers = new Layer[buffer.getInt()];
+        for (int i = 0; i < map.layers.length; i++) {
+            Layer layer = new Layer();
+            layer.name = readString(buffer);
+            layer.visible = buffer.get() != 0;
+            layer.opacity = buffer.getFloat();
+            layer.offsetX = buffer.getFloat();
+            layer.offsetY = buffer.getFloat();
+            layer.gids = new int[cellCount];
+            // Bulk copy, then skip past the array
+            buffer.asIntBuffer().get(layer.gids);
+            buffer.position(buffer.position() + cellCount * 4);
+            map.layers[i] = layer;
+        }
+
+        map.floorLayer = buffer.getInt();
+        map.wallLayer = buffer.getInt();
+        map.collisionLayer = buffer.getInt();
+
+        int recordCount = buffer.getInt();
+        map.recordTypes = new byte[recordCount];
+        map.recordBounds = new float[recordCount * 4];
+        for (int i = 0; i < recordCount; i++) {
+            map.recordTypes[i] = buffer.get();
+            map.recordBounds[i * 4] = buffer.getFloat();
+            map.recordBounds[i * 4 + 1] = buffer.getFloat();
+            map.recordBounds[i * 4 + 2] = buffer.getFloat();
+            map.recordBounds[i * 4 + 3] = buffer.getFloat();
+        }
+        return map;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Find the tileset a gid belongs to, or null for an empty cell.
+     */
+    public Tileset getTileset(int gid) {
+        int id = gid & ~MASK_CLEAR;
+        Tileset match = null;
+        for (Tileset tileset : tilesets) {
+            if (tileset.firstGid <= id) {
+                match = tileset;
+            }
+        }
+        return id == 0 ? null : match;
+    }
+
+    public Array<Rectangle> getCollisionRectangles(Array<Rectangle> out) {
+        for (int i = 0; i < recordTypes.length; i++) {
+            if (recordTypes[i] == COLLISION) {
+                out.add(new Rectangle(recordBounds[i * 4], recordBounds[i * 4 + 1],
+                    recordBounds[i * 4 + 2], recordBounds[i * 4 + 3]));
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Position of the first record of the given type. Returns false if there is none.
+     */
+    public boolean findRecord(byte type, Vector2 out) {
+        for (int i = 0; i < recordTypes.length; i++) {
+            if (recordTypes[i] == type) {
+                out.set(recordBounds[i * 4], recordBounds[i * 4 + 1]);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The same collision setup mapManager builds for a loaded map: the collision objects, or the
+     * collision tile layer if the map has none. Needs no GL context.
+     */
+    public MapInteractionHandler createInteractionHandler() {
+        Array<Rectangle> collisionRects = getCollisionRectangles(new Array<>());
+        mapManager.removeContainedRectangles(collisionRects);
+        return new MapInteractionHandler(collisionRects, collisionRects.size == 0 ? createCollisionMask() : null);
+    }
+
+    /**
+     * Compile the collision layer straight from the gids. Returns null if the map has no collision layer.
+     */
+    public CollisionMask createCollisionMask() {
+        if (collisionLayer < 0) return null;
+
+        CollisionMask mask = new CollisionMask(width, height, tileWidth, tileHeight);
+        int[] gids = layers[collisionLayer].gids;
+        for (int i = 0; i < gids.length; i++) {
+            if ((gids[i] & ~MASK_CLEAR) != 0) {
+                mask.setSolid(i % width, i / width);
+            }
+        }
+        return mask;
+    }
+}
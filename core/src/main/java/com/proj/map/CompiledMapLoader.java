@@ -0,0 +1,180 @@
+package com.proj.map;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.proj.assets.AssetDescriptors;
+import com.proj.assets.PrefetchingAssetManager;
+
+/**
+ * Loads the binary maps written by the compileMaps Gradle task (".tmb") into a CompiledTiledMap.
+ * Only tiles that are actually placed on the map get a TiledMapTile. Tiles are cut out of the
+ * tileset regions in the tiles atlas (packTextures task), so a whole map renders from one texture.
+ */
+public class CompiledMapLoader extends AsynchronousAssetLoader<TiledMap, CompiledMapLoader.Parameters> {
+
+    // Texture filters are set by packTextures in the atlas file
+    public static class Parameters extends AssetLoaderParameters<TiledMap> {
+    }
+
+    private static final String TILES_FOLDER = "tiles/";
+
+    // Set in loadAsync and used by loadSync
+    private CompiledTiledMap map;
+
+    public CompiledMapLoader(FileHandleResolver resolver) {
+        super(resolver);
+    }
+
+    @Override
+    public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, Parameters parameter) {
+        Array<AssetDescriptor> dependencies = new Array<>();
+        dependencies.add(AssetDescriptors.TILES_ATLAS);
+        return dependencies;
+    }
+
+    @Override
+    public void loadAsync(AssetManager manager, String fileName, FileHandle file, Parameters parameter) {
+        // Usually already read on PrefetchingAssetManager's pool while the tiles atlas loaded
+        CompiledMap data = manager instanceof PrefetchingAssetManager
+            ? ((PrefetchingAssetManager) manager).takeMap(file) : null;
+        if (data == null) {
+            data = CompiledMap.read(file);
+        }
+        map = buildMap(data, manager);
+    }
+
+    @Override
+    public TiledMap loadSync(AssetManager manager, String fileName, FileHandle file, Parameters parameter) {
+        TiledMap result = map;
+        map = null;
+        return result;
+    }
+
+    private static CompiledTiledMap buildMap(CompiledMap data, AssetManager manager) {
+        CompiledTiledMap map = new CompiledTiledMap(data);
+        TextureAtlas atlas = manager.get(AssetDescriptors.TILES_ATLAS);
+
+        MapProperties properties = map.getProperties();
+        properties.put("orientation", "orthogonal");
+        properties.put("width", data.width);
+        properties.put("height", data.height);
+        properties.put("tilewidth", data.tileWidth);
+        properties.put("tileheight", data.tileHeight);
+
+        ObjectMap<CompiledMap.Tileset, TiledMapTileSet> tileSets = new ObjectMap<>();
+        ObjectMap<CompiledMap.Tileset, TextureRegion> tilesetRegions = new ObjectMap<>();
+        for (CompiledMap.Tileset tileset : data.tilesets) {
+            TiledMapTileSet tileSet = new TiledMapTileSet();
+            tileSet.setName(tileset.imagePath);
+            tileSets.put(tileset, tileSet);
+            tilesetRegions.put(tileset, findTilesetRegion(atlas, tileset.imagePath));
+            map.getTileSets().addTileSet(tileSet);
+        }
+
+        IntMap<TiledMapTile> tiles = new IntMap<>();
+        for (CompiledMap.Layer compiledLayer : data.layers) {
+            TiledMapTileLayer layer = new TiledMapTileLayer(data.width, data.height, data.tileWidth, data.tileHeight);
+            layer.setName(compiledLayer.name);
+            layer.setVisible(compiledLayer.visible);
+            layer.setOpacity(compiledLayer.opacity);
+            layer.setOffsetX(compiledLayer.offsetX);
+            layer.setOffsetY(compiledLayer.offsetY);
+
+            int[] gids = compiledLayer.gids;
+            for (int i = 0; i < gids.length; i++) {
+                int gid = gids[i];
+                int id = gid & ~CompiledMap.MASK_CLEAR;
+                if (id == 0) continue;
+
+                TiledMapTile tile = tiles.get(id);
+                if (tile == null) {
+                    CompiledMap.Tileset tileset = data.getTileset(gid);
+                    if (tileset == null) continue;
+                    tile = createTile(tileset, id, tilesetRegions.get(tileset));
+                    tiles.put(id, tile);
+                    tileSets.get(tileset).putTile(id, tile);
+                }
+
+                TiledMapTileLayer.Cell cell = createCell(
+                    (gid & CompiledMap.FLAG_FLIP_HORIZONTALLY) != 0,
+                    (gid & CompiledMap.FLAG_FLIP_VERTICALLY) != 0,
+                    (gid & CompiledMap.FLAG_FLIP_DIAGONALLY) != 0);
+                cell.setTile(tile);
+                layer.setCell(i % data.width, i / data.width, cell);
+            }
+            map.getLayers().add(layer);
+        }
+
+        map.resolveLayers();
+        return map;
+    }
+
+    // packTextures names regions after the image path below assets/tiles, without the extension
+    private static TextureRegion findTilesetRegion(TextureAtlas atlas, String imagePath) {
+        String name = imagePath;
+        if (name.startsWith(TILES_FOLDER)) {
+            name = name.substring(TILES_FOLDER.length());
+        }
+        int extension = name.lastIndexOf('.');
+        if (extension > 0) {
+            name = name.substring(0, extension);
+        }
+
+        TextureRegion region = atlas.findRegion(name);
+        if (region == null) {
+            throw new GdxRuntimeException("Tileset image " + imagePath + " is not in " + AssetDescriptors.TILES_ATLAS.fileName
+                + ", rerun packTextures");
+        }
+        return region;
+    }
+
+    private static TiledMapTile createTile(CompiledMap.Tileset tileset, int id, TextureRegion image) {
+        int index = id - tileset.firstGid;
+        int column = index % tileset.columns;
+        int row = index / tileset.columns;
+        int x = tileset.margin + column * (tileset.tileWidth + tileset.spacing);
+        int y = tileset.margin + row * (tileset.tileHeight + tileset.spacing);
+
+        StaticTiledMapTile tile = new StaticTiledMapTile(new TextureRegion(image, x, y, tileset.tileWidth, tileset.tileHeight));
+        tile.setId(id);
+        return tile;
+    }
+
+    // Same mapping from Tiled flip flags to flips and rotations as BaseTmxMapLoader
+    private static TiledMapTileLayer.Cell createCell(boolean flipHorizontally, boolean flipVertically, boolean flipDiagonally) {
+        TiledMapTileLayer.Cell cell = new TiledMapTileLayer.Cell();
+        if (flipDiagonally) {
+            if (flipHorizontally && flipVertically) {
+                cell.setFlipHorizontally(true);
+                cell.setRotation(TiledMapTileLayer.Cell.ROTATE_270);
+            } else if (flipHorizontally) {
+                cell.setRotation(TiledMapTileLayer.Cell.ROTATE_270);
+            } else if (flipVertically) {
+                cell.setRotation(TiledMapTileLayer.Cell.ROTATE_90);
+            } else {
+                cell.setFlipVertically(true);
+                cell.setRotation(TiledMapTileLayer.Cell.ROTATE_270);
+            }
+        } else {
+            cell.setFlipHorizontally(flipHorizontally);
+            cell.setFlipVertically(flipVertically);
+        }
+        return cell;
+    }
+}
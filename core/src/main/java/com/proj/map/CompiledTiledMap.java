@@ -0,0 +1,45 @@
+package com.proj.map;
+
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+
+/**
+ * TiledMap built by CompiledMapLoader. Keeps the compiled data around so lookups
+ * that used to go through layer names and object properties can use it directly.
+ */
+public class CompiledTiledMap extends TiledMap {
+    private final CompiledMap data;
+    private TiledMapTileLayer floorLayer;
+    private TiledMapTileLayer wallLayer;
+    private TiledMapTileLayer collisionLayer;
+
+    public CompiledTiledMap(CompiledMap data) {
+        this.data = data;
+    }
+
+    void resolveLayers() {
+        floorLayer = layerAt(data.floorLayer);
+        wallLayer = layerAt(data.wallLayer);
+        collisionLayer = layerAt(data.collisionLayer);
+    }
+
+    private TiledMapTileLayer layerAt(int index) {
+        return index < 0 ? null : (TiledMapTileLayer) getLayers().get(index);
+    }
+
+    public CompiledMap getData() {
+        return data;
+    }
+
+    public TiledMapTileLayer getFloorLayer() {
+        return floorLayer;
+    }
+
+    public TiledMapTileLayer getWallLayer() {
+        return wallLayer;
+    }
+
+    public TiledMapTileLayer getCollisionLayer() {
+        return collisionLayer;
+    }
+}
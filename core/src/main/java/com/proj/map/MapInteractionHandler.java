@@ -5,41 +5,147 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 
 public class MapInteractionHandler {
+    // Two 16px tiles per grid cell
+    public static final float DEFAULT_CELL_SIZE = 32f;
+
+    // Swept movement tuning
+    private static final float MIN_STEP = 1f;
+    private static final int CONTACT_ITERATIONS = 8;
 
     private Array<Rectangle> collisionObjects;
+    private final CollisionGrid collisionGrid;
+    private CollisionMask collisionMask;
+
+    // Reused by the movement queries so they don't allocate
+    private final Rectangle scratchBounds = new Rectangle();
 
     public MapInteractionHandler(Array<Rectangle> collisionObjects) {
-       this.collisionObjects = collisionObjects;
+        this(collisionObjects, null);
+    }
+
+    public MapInteractionHandler(Array<Rectangle> collisionObjects, CollisionMask collisionMask) {
+        this(collisionObjects, collisionMask, DEFAULT_CELL_SIZE);
+    }
+
+    public MapInteractionHandler(Array<Rectangle> collisionObjects, CollisionMask collisionMask, float cellSize) {
+        this.collisionObjects = collisionObjects;
+        this.collisionMask = collisionMask;
+        this.collisionGrid = new CollisionGrid(cellSize);
+        collisionGrid.build(collisionObjects);
     }
 
     public boolean isCollidingWithMap(Rectangle entityBounds) {
-        for (Rectangle collisionRect : collisionObjects) {
-            if (entityBounds.overlaps(collisionRect)) {
-                return true;
-            }
+        // Tile collision is a handful of bit tests, so check it first
+        if (collisionMask != null && collisionMask.overlaps(entityBounds)) {
+            return true;
         }
-        return false;
+        // Only the grid cells covered by the bounds are checked
+        return collisionGrid.overlaps(entityBounds);
     }
 
     public void updateCollisionObjects(Array<Rectangle> newcollisionObjects) {
         // Call this when map changes
         this.collisionObjects.clear();
         this.collisionObjects.addAll(newcollisionObjects);
+        collisionGrid.build(collisionObjects);
     }
 
+    public void updateCollisionMask(CollisionMask newCollisionMask) {
+        // Pass null when the map has no collision tile layer
+        this.collisionMask = newCollisionMask;
+    }
+
+    public CollisionMask getCollisionMask() {
+        return collisionMask;
+    }
+
+    /**
+     * Move a box centred on currentPosition towards targetPosition, sliding along whatever it hits.
+     * The result is written into targetPosition, which is also returned.
+     */
     public Vector2 adjustPositionForCollision(Vector2 currentPosition, Vector2 targetPosition, float width, float height) {
-        // Create a rectangle for the target position
-        Rectangle targetBounds = new Rectangle(
-            targetPosition.x - width/2,
-            targetPosition.y - height/2,
-            width, height
-        );
-
-        // Check if the target position collides with any obstacles
-        if (isCollidingWithMap(targetBounds)) {
-            return currentPosition;  // Cannot move there, return original position
+        return adjustPositionForCollision(currentPosition, targetPosition, width, height, targetPosition);
+    }
+
+    /**
+     * Swept AABB movement. X and Y are resolved separately, so a blocked axis stops at the contact
+     * point while the other axis keeps moving. Each axis is swept in steps no longer than half the
+     * box size, so large deltas cannot tunnel through thin geometry. Nothing is allocated.
+     * The out vector may be the same instance as either input.
+     */
+    public Vector2 adjustPositionForCollision(Vector2 currentPosition, Vector2 targetPosition, float width, float height, Vector2 out) {
+        float startX = currentPosition.x - width / 2;
+        float startY = currentPosition.y - height / 2;
+        float dx = targetPosition.x - currentPosition.x;
+        float dy = targetPosition.y - currentPosition.y;
+
+        // Something that starts inside geometry (bad spawn point) is allowed to walk out
+        if (isCollidingAt(startX, startY, width, height)) {
+            return out.set(targetPosition);
         }
 
-        return targetPosition;  // Safe to move
+        float resolvedX = sweepX(startX, startY, width, height, dx);
+        float resolvedY = sweepY(resolvedX, startY, width, height, dy);
+        return out.set(resolvedX + width / 2, resolvedY + height / 2);
+    }
+
+    private float sweepX(float x, float y, float width, float height, float dx) {
+        if (dx == 0) return x;
+
+        int steps = stepCount(dx, width);
+        float stepDx = dx / steps;
+        for (int i = 0; i < steps; i++) {
+            float next = x + stepDx;
+            if (isCollidingAt(next, y, width, height)) {
+                // Narrow down the contact point between the last free and the first blocked position
+                float blocked = next;
+                for (int j = 0; j < CONTACT_ITERATIONS; j++) {
+                    float mid = (x + blocked) / 2;
+                    if (isCollidingAt(mid, y, width, height)) {
+                        blocked = mid;
+                    } else {
+                        x = mid;
+                    }
+                }
+                return x;
+            }
+            x = next;
+        }
+        return x;
+    }
+
+    private float sweepY(float x, float y, float width, float height, float dy) {
+        if (dy == 0) return y;
+
+        int steps = stepCount(dy, height);
+        float stepDy = dy / steps;
+        for (int i = 0; i < steps; i++) {
+            float next = y + stepDy;
+            if (isCollidingAt(x, next, width, height)) {
+                float blocked = next;
+                for (int j = 0; j < CONTACT_ITERATIONS; j++) {
+                    float mid = (y + blocked) / 2;
+                    if (isCollidingAt(x, mid, width, height)) {
+                        blocked = mid;
+                    } else {
+                        y = mid;
+                    }
+                }
+                return y;
+            }
+            y = next;
+        }
+        return y;
+    }
+
+    private static int stepCount(float distance, float size) {
+        // Consecutive boxes overlap, so the swept area has no gaps
+        float maxStep = Math.max(size / 2, MIN_STEP);
+        return Math.max(1, (int) Math.ceil(Math.abs(distance) / maxStep));
+    }
+
+    private boolean isCollidingAt(float x, float y, float width, float height) {
+        scratchBounds.set(x, y, width, height);
+        return isCollidingWithMap(scratchBounds);
     }
 }
@@ -0,0 +1,227 @@
+package com.proj.map;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapLayers;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.tiles.AnimatedTiledMapTile;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Static tile layers of a map baked into a SpriteCache.
+ * The vertices are built once when the map is loaded, so drawing a cached layer only
+ * submits geometry that already lives on the GPU. Layers with animated tiles or parallax
+ * are left to the regular map renderer.
+ */
+public class StaticLayerCache implements Disposable {
+    // SpriteCache limit when indices are used
+    private static final int MAX_SPRITES = 8191;
+
+    private final SpriteCache spriteCache;
+    private final int[] layerCacheIds;
+    private final float[] vertices = new float[20];
+    private boolean drawing;
+
+    private StaticLayerCache(int size, int layerCount) {
+        this.spriteCache = new SpriteCache(size, true);
+        this.layerCacheIds = new int[layerCount];
+    }
+
+    /**
+     * Bake the static layers of the map. Returns null if there is nothing worth caching
+     * or the map is too big for a single cache.
+     */
+    public static StaticLayerCache build(TiledMap map) {
+        MapLayers layers = map.getLayers();
+
+        int cellCount = 0;
+        for (MapLayer layer : layers) {
+            if (isStatic(layer)) {
+                cellCount += countTiles((TiledMapTileLayer) layer);
+            }
+        }
+        if (cellCount == 0 || cellCount > MAX_SPRITES) {
+            return null;
+        }
+
+        StaticLayerCache cache = new StaticLayerCache(cellCount, layers.getCount());
+        for (int i = 0; i < layers.getCount(); i++) {
+            MapLayer layer = layers.get(i);
+            if (isStatic(layer)) {
+                cache.spriteCache.beginCache();
+                cache.addLayer((TiledMapTileLayer) layer);
+                cache.layerCacheIds[i] = cache.spriteCache.endCache();
+            } else {
+                cache.layerCacheIds[i] = -1;
+            }
+        }
+        return cache;
+    }
+
+    private static boolean isStatic(MapLayer layer) {
+        if (!(layer instanceof TiledMapTileLayer) || !layer.isVisible()) return false;
+        // Parallax offsets depend on the camera, so those layers can't be baked
+        if (layer.getParallaxX() != 1f || layer.getParallaxY() != 1f) return false;
+
+        TiledMapTileLayer tileLayer = (TiledMapTileLayer) layer;
+        for (int y = 0; y < tileLayer.getHeight(); y++) {
+            for (int x = 0; x < tileLayer.getWidth(); x++) {
+                TiledMapTileLayer.Cell cell = tileLayer.getCell(x, y);
+                if (cell != null && cell.getTile() instanceof AnimatedTiledMapTile) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static int countTiles(TiledMapTileLayer layer) {
+        int count = 0;
+        for (int y = 0; y < layer.getHeight(); y++) {
+            for (int x = 0; x < layer.getWidth(); x++) {
+                TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+                if (cell != null && cell.getTile() != null) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    // Builds the same quads as OrthogonalTiledMapRenderer.renderTileLayer, including flips and rotations
+    private void addLayer(TiledMapTileLayer layer) {
+        float color = Color.toFloatBits(1f, 1f, 1f, layer.getOpacity());
+        float layerWidth = layer.getTileWidth();
+        float layerHeight = layer.getTileHeight();
+        float offsetX = layer.getRenderOffsetX();
+        float offsetY = -layer.getRenderOffsetY();
+
+        for (int row = 0; row < layer.getHeight(); row++) {
+            for (int col = 0; col < layer.getWidth(); col++) {
+                TiledMapTileLayer.Cell cell = layer.getCell(col, row);
+                if (cell == null) continue;
+                TiledMapTile tile = cell.getTile();
+                if (tile == null) continue;
+
+                TextureRegion region = tile.getTextureRegion();
+                float x1 = col * layerWidth + offsetX + tile.getOffsetX();
+                float y1 = row * layerHeight + offsetY + tile.getOffsetY();
+                float x2 = x1 + region.getRegionWidth();
+                float y2 = y1 + region.getRegionHeight();
+
+                float u1 = region.getU();
+                float v1 = region.getV2();
+                float u2 = region.getU2();
+                float v2 = region.getV();
+
+                vertices[Batch.X1] = x1;
+                vertices[Batch.Y1] = y1;
+                vertices[Batch.C1] = color;
+                vertices[Batch.U1] = u1;
+                vertices[Batch.V1] = v1;
+
+                vertices[Batch.X2] = x1;
+                vertices[Batch.Y2] = y2;
+                vertices[Batch.C2] = color;
+                vertices[Batch.U2] = u1;
+                vertices[Batch.V2] = v2;
+
+                vertices[Batch.X3] = x2;
+                vertices[Batch.Y3] = y2;
+                vertices[Batch.C3] = color;
+                vertices[Batch.U3] = u2;
+                vertices[Batch.V3] = v2;
+
+                vertices[Batch.X4] = x2;
+                vertices[Batch.Y4] = y1;
+                vertices[Batch.C4] = color;
+                vertices[Batch.U4] = u2;
+                vertices[Batch.V4] = v1;
+
+                if (cell.getFlipHorizontally()) {
+                    swap(Batch.U1, Batch.U3);
+                    swap(Batch.U2, Batch.U4);
+                }
+                if (cell.getFlipVertically()) {
+                    swap(Batch.V1, Batch.V3);
+                    swap(Batch.V2, Batch.V4);
+                }
+                switch (cell.getRotation()) {
+                    case TiledMapTileLayer.Cell.ROTATE_90:
+                        rotate(Batch.V1, Batch.V2, Batch.V3, Batch.V4);
+                        rotate(Batch.U1, Batch.U2, Batch.U3, Batch.U4);
+                        break;
+                    case TiledMapTileLayer.Cell.ROTATE_180:
+                        swap(Batch.U1, Batch.U3);
+                        swap(Batch.U2, Batch.U4);
+                        swap(Batch.V1, Batch.V3);
+                        swap(Batch.V2, Batch.V4);
+                        break;
+                    case TiledMapTileLayer.Cell.ROTATE_270:
+                        rotate(Batch.V1, Batch.V4, Batch.V3, Batch.V2);
+                        rotate(Batch.U1, Batch.U4, Batch.U3, Batch.U2);
+                        break;
+                }
+
+                spriteCache.add(region.getTexture(), vertices, 0, vertices.length);
+            }
+        }
+    }
+
+    private void swap(int a, int b) {
+        float temp = vertices[a];
+        vertices[a] = vertices[b];
+        vertices[b] = temp;
+    }
+
+    // Shifts the values one slot towards a: a <- b <- c <- d <- a
+    private void rotate(int a, int b, int c, int d) {
+        float temp = vertices[a];
+        vertices[a] = vertices[b];
+        vertices[b] = vertices[c];
+        vertices[c] = vertices[d];
+        vertices[d] = temp;
+    }
+
+    public boolean isCached(int layerIndex) {
+        return layerIndex < layerCacheIds.length && layerCacheIds[layerIndex] >= 0;
+    }
+
+    public void begin(Matrix4 projection) {
+        if (drawing) return;
+        // SpriteCache doesn't manage blending the way SpriteBatch does
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        spriteCache.setProjectionMatrix(projection);
+        spriteCache.begin();
+        drawing = true;
+    }
+
+    public void draw(int layerIndex) {
+        spriteCache.draw(layerCacheIds[layerIndex]);
+    }
+
+    public void end() {
+        if (!drawing) return;
+        spriteCache.end();
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+        drawing = false;
+    }
+
+    public SpriteCache getSpriteCache() {
+        return spriteCache;
+    }
+
+    @Override
+    public void dispose() {
+        spriteCache.dispose();
+    }
+}
@@ -2,25 +2,34 @@ package com.proj.map;
 
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.maps.MapLayer;
 import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.MapLayers;
 import com.badlogic.gdx.maps.MapObjects;
 import com.badlogic.gdx.maps.MapProperties;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
 import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapImageLayer;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import com.badlogic.gdx.maps.tiled.tiles.AnimatedTiledMapTile;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
-import com.proj.assets.AssetDescriptors;
+import com.proj.assets.LevelAssets;
 
 public class mapManager implements Disposable {
     private AssetManager assetManager;
     private TiledMap currentMap;
     private OrthogonalTiledMapRenderer mapRenderer;
+    private StaticLayerCache staticLayerCache;
+    private boolean bakedRendering = true;
+    private MapInteractionHandler interactionHandler;
+    private CollisionMask collisionMask;
     private int currentMapIndex;
+    private int lastRenderCalls;
 
     // Common layer names across maps
     private static final String[] FLOOR_LAYER_NAMES = {"Floor", "Tile Layer 1"};
@@ -40,52 +49,88 @@ public class mapManager implements Disposable {
             throw new IllegalArgumentException("Map index must be between 0 and 4");
         }
 
-        // Dispose of the current map renderer if it exists
-        if (mapRenderer != null) {
-            mapRenderer.dispose();
-        }
+        // Load the new map and its boss assets now, and start streaming in the next level
+        LevelAssets.finishLoading(assetManager, mapIndex);
+        TiledMap map = assetManager.get(LevelAssets.getMap(mapIndex));
+        LevelAssets.prefetchNext(assetManager, mapIndex);
 
-        // Load the new map
-        TiledMap map = null;
-        switch (mapIndex) {
-            case 0:
-                map = assetManager.get(AssetDescriptors.MAP_0);
-                break;
-            case 1:
-                map = assetManager.get(AssetDescriptors.MAP_1);
-                break;
-            case 2:
-                map = assetManager.get(AssetDescriptors.MAP_2);
-                break;
-            case 3:
-                map = assetManager.get(AssetDescriptors.MAP_3);
-                break;
-            case 4:
-                map = assetManager.get(AssetDescriptors.MAP_4);
-                break;
-        }
+        setMap(map, mapIndex);
+    }
+
+    /**
+     * Use an already loaded map. The renderer and the static layer cache are only created by
+     * the first render(), so collision queries work without a GL context.
+     */
+    public void setMap(TiledMap map, int mapIndex) {
+        // Dispose of the current map renderer if it exists
+        disposeRenderer();
 
         this.currentMap = map;
         this.currentMapIndex = mapIndex;
-        this.mapRenderer = new OrthogonalTiledMapRenderer(map, 1f);
+
+        // Index the collision geometry once per map so movement checks stay cheap.
+        // The collision tile layer is only used when the map has no collision objects.
+        Array<Rectangle> collisionRects = getObjectCollisionRectangles();
+        this.collisionMask = collisionRects.size == 0 ? createCollisionMask() : null;
+        this.interactionHandler = new MapInteractionHandler(collisionRects, collisionMask);
     }
 
     public TiledMapTileLayer getFloorLayer() {
+        if (currentMap instanceof CompiledTiledMap) {
+            return ((CompiledTiledMap) currentMap).getFloorLayer();
+        }
         return findLayerByNames(FLOOR_LAYER_NAMES);
     }
 
     public TiledMapTileLayer getWallLayer() {
+        if (currentMap instanceof CompiledTiledMap) {
+            return ((CompiledTiledMap) currentMap).getWallLayer();
+        }
         return findLayerByNames(WALL_LAYER_NAMES);
     }
 
     public TiledMapTileLayer getCollisionLayer() {
+        if (currentMap instanceof CompiledTiledMap) {
+            return ((CompiledTiledMap) currentMap).getCollisionLayer();
+        }
         return findLayerByNames(COLLISION_LAYER_NAMES);
     }
 
+    private CollisionMask createCollisionMask() {
+        if (currentMap instanceof CompiledTiledMap) {
+            return ((CompiledTiledMap) currentMap).getData().createCollisionMask();
+        }
+        return CollisionMask.fromLayer(getCollisionLayer());
+    }
+
+    /**
+     * All collision geometry as rectangles, e.g. for building a physics world.
+     * Object-layer rectangles come first; if there are none, the collision tile layer is merged
+     * into as few rectangles as possible. MapInteractionHandler uses the tile mask directly instead.
+     */
     public Array<Rectangle> getCollisionObjects() {
+        Array<Rectangle> collisionRects = getObjectCollisionRectangles();
+
+        // If no collision objects were found, fall back to the collision tile layer
+        if (collisionRects.size == 0) {
+            CollisionMask mask = createCollisionMask();
+            if (mask != null) {
+                mask.mergeSolidTiles(collisionRects);
+            }
+        }
+
+        return collisionRects;
+    }
+
+    private Array<Rectangle> getObjectCollisionRectangles() {
         Array<Rectangle> collisionRects = new Array<>();
 
-        // First try to get collision objects from object layers
+        if (currentMap instanceof CompiledTiledMap) {
+            ((CompiledTiledMap) currentMap).getData().getCollisionRectangles(collisionRects);
+            removeContainedRectangles(collisionRects);
+            return collisionRects;
+        }
+
         for (String name : COLLISION_OBJECT_NAMES) {
             MapLayer objectLayer = currentMap.getLayers().get(name);
             if (objectLayer != null) {
@@ -99,73 +144,158 @@ public class mapManager implements Disposable {
             }
         }
 
-        // If no collision objects were found, try to get them from collision layers
-        if (collisionRects.size == 0) {
-            TiledMapTileLayer collisionLayer = getCollisionLayer();
-            if (collisionLayer != null) {
-                // Convert collision tiles to rectangles
-                for (int x = 0; x < collisionLayer.getWidth(); x++) {
-                    for (int y = 0; y < collisionLayer.getHeight(); y++) {
-                        TiledMapTileLayer.Cell cell = collisionLayer.getCell(x, y);
-                        if (cell != null && cell.getTile() != null) {
-                            collisionRects.add(new Rectangle(x * collisionLayer.getTileWidth(),
-                                y * collisionLayer.getTileHeight(),
-                                collisionLayer.getTileWidth(),
-                                collisionLayer.getTileHeight()));
-                        }
-                    }
+        removeContainedRectangles(collisionRects);
+        return collisionRects;
+    }
+
+    // Drops rectangles that lie entirely inside another one (including exact duplicates)
+    static void removeContainedRectangles(Array<Rectangle> rects) {
+        for (int i = rects.size - 1; i >= 0; i--) {
+            Rectangle candidate = rects.get(i);
+            for (int j = 0; j < rects.size; j++) {
+                if (j != i && rects.get(j).contains(candidate)) {
+                    rects.removeIndex(i);
+                    break;
                 }
             }
         }
-
-        return collisionRects;
     }
 
     public Vector2 getPlayerSpawnPosition() {
-        for (String name : SPAWN_POINT_NAMES) {
+        return getPlayerSpawnPosition(new Vector2());
+    }
+
+    /**
+     * Write the player spawn point into out, or (100, 100) if the map has none. Returns out.
+     */
+    public Vector2 getPlayerSpawnPosition(Vector2 out) {
+        return findSpawnPosition(CompiledMap.PLAYER_SPAWN, SPAWN_POINT_NAMES, 100, 100, out);
+    }
+
+    public Vector2 getBossSpawnPosition() {
+        return getBossSpawnPosition(new Vector2());
+    }
+
+    /**
+     * Write the boss spawn point into out, or (200, 200) if the map has none. Returns out.
+     */
+    public Vector2 getBossSpawnPosition(Vector2 out) {
+        return findSpawnPosition(CompiledMap.BOSS_SPAWN, BOSS_SPAWN_NAMES, 200, 200, out);
+    }
+
+    private Vector2 findSpawnPosition(byte recordType, String[] layerNames, float defaultX, float defaultY, Vector2 out) {
+        out.set(defaultX, defaultY);
+        if (currentMap instanceof CompiledTiledMap) {
+            ((CompiledTiledMap) currentMap).getData().findRecord(recordType, out);
+            return out;
+        }
+
+        for (String name : layerNames) {
             MapLayer layer = currentMap.getLayers().get(name);
             if (layer != null && layer.getObjects().getCount() > 0) {
                 MapObject object = layer.getObjects().get(0);
                 if (object != null) {
-                    float x = object.getProperties().get("x", Float.class);
-                    float y = object.getProperties().get("y", Float.class);
-                    return new Vector2(x, y);
+                    return out.set(object.getProperties().get("x", Float.class),
+                        object.getProperties().get("y", Float.class));
                 }
             }
         }
 
         // Default spawn position if none found
-        return new Vector2(100, 100);
+        return out;
     }
 
-    public Vector2 getBossSpawnPosition() {
-        for (String name : BOSS_SPAWN_NAMES) {
-            MapLayer layer = currentMap.getLayers().get(name);
-            if (layer != null && layer.getObjects().getCount() > 0) {
-                MapObject object = layer.getObjects().get(0);
-                if (object != null) {
-                    float x = object.getProperties().get("x", Float.class);
-                    float y = object.getProperties().get("y", Float.class);
-                    return new Vector2(x, y);
-                }
+    public void render(OrthographicCamera camera) {
+        if (currentMap == null) return;
+        if (mapRenderer == null) {
+            mapRenderer = new OrthogonalTiledMapRenderer(currentMap, 1f);
+            if (bakedRendering) {
+                staticLayerCache = StaticLayerCache.build(currentMap);
             }
         }
 
-        // Default boss position if none found
-        return new Vector2(200, 200);
+        // Batches reset renderCalls on every begin(), so count with the running totals instead
+        int callsBefore = getTotalRenderCalls();
+        renderLayers(camera);
+        lastRenderCalls = getTotalRenderCalls() - callsBefore;
     }
 
-    public void render(OrthographicCamera camera) {
-        if (mapRenderer != null) {
-            mapRenderer.setView(camera);
+    private void renderLayers(OrthographicCamera camera) {
+        mapRenderer.setView(camera);
+        if (staticLayerCache == null) {
             mapRenderer.render();
+            return;
+        }
+
+        // Cached layers are drawn straight from the GPU; anything else goes through the renderer
+        MapLayers layers = currentMap.getLayers();
+        for (int i = 0; i < layers.getCount(); i++) {
+            MapLayer layer = layers.get(i);
+            if (!layer.isVisible()) continue;
+
+            if (staticLayerCache.isCached(i)) {
+                staticLayerCache.begin(camera.combined);
+                staticLayerCache.draw(i);
+            } else if (layer instanceof TiledMapTileLayer || layer instanceof TiledMapImageLayer) {
+                staticLayerCache.end();
+                AnimatedTiledMapTile.updateAnimationBaseTime();
+                mapRenderer.getBatch().begin();
+                if (layer instanceof TiledMapTileLayer) {
+                    mapRenderer.renderTileLayer((TiledMapTileLayer) layer);
+                } else {
+                    mapRenderer.renderImageLayer((TiledMapImageLayer) layer);
+                }
+                mapRenderer.getBatch().end();
+            }
+        }
+        staticLayerCache.end();
+    }
+
+    private int getTotalRenderCalls() {
+        int calls = 0;
+        if (mapRenderer.getBatch() instanceof SpriteBatch) {
+            calls += ((SpriteBatch) mapRenderer.getBatch()).totalRenderCalls;
+        }
+        if (staticLayerCache != null) {
+            calls += staticLayerCache.getSpriteCache().totalRenderCalls;
         }
+        return calls;
+    }
+
+    /**
+     * Draw calls issued by the last render(), from the map batch and the static layer cache.
+     */
+    public int getLastRenderCalls() {
+        return lastRenderCalls;
+    }
+
+    /**
+     * Toggle baking static tile layers into a SpriteCache. Takes effect immediately.
+     */
+    public void setBakedRendering(boolean bakedRendering) {
+        this.bakedRendering = bakedRendering;
+        disposeStaticLayerCache();
+        if (bakedRendering && mapRenderer != null) {
+            staticLayerCache = StaticLayerCache.build(currentMap);
+        }
+    }
+
+    public boolean isBakedRendering() {
+        return bakedRendering;
     }
 
     public int getCurrentMapIndex() {
         return currentMapIndex;
     }
 
+    public CollisionMask getCollisionMask() {
+        return collisionMask;
+    }
+
+    public MapInteractionHandler getInteractionHandler() {
+        return interactionHandler;
+    }
+
     public TiledMap getCurrentMap() {
         return currentMap;
     }
@@ -201,12 +331,28 @@ public class mapManager implements Disposable {
         return null;
     }
 
-    @Override
-    public void dispose() {
+    private void disposeStaticLayerCache() {
+        if (staticLayerCache != null) {
+            staticLayerCache.dispose();
+            staticLayerCache = null;
+        }
+    }
+
+    /**
+     * Free the map renderer and the static layer cache, e.g. while the game is paused.
+     * The next render() creates them again.
+     */
+    public void disposeRenderer() {
         if (mapRenderer != null) {
             mapRenderer.dispose();
             mapRenderer = null;
         }
+        disposeStaticLayerCache();
+    }
+
+    @Override
+    public void dispose() {
+        disposeRenderer();
         // Note: We don't dispose the TiledMap as it's managed by the AssetManager
     }
 }
@@ -13,13 +13,12 @@ import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
-import com.badlogic.gdx.Gdx;
 import com.proj.core.TechXplorerGame;
 
 public class QuizManager implements Disposable {
     // UI Components
     private Stage stage;
-    private Skin skin;
+    private final Skin skin;
     private Table mainTable;
     private Label questionLabel;
     private TextButton[] answerButtons;
@@ -38,15 +37,16 @@ public class QuizManager implements Disposable {
     private final int QUESTIONS_PER_BOSS = 5;
     private final int REQUIRED_CORRECT = 3; // Min correct answers to defeat boss
 
-    public QuizManager(int bossIndex) {
+    /**
+     * skin is the shared UI skin from the AssetManager; the quiz doesn't dispose it.
+     */
+    public QuizManager(int bossIndex, Skin skin) {
         this.bossIndex = bossIndex;
+        this.skin = skin;
 
         // Initialize stage
         stage = new Stage(new FitViewport(TechXplorerGame.WORLD_WIDTH, TechXplorerGame.WORLD_HEIGHT));
 
-        // Load skin for UI
-        skin = new Skin(Gdx.files.internal("ui/ui_skin.json"));
-
         // Create questions based on boss index
         createQuestions();
 
@@ -0,0 +1,183 @@
+package com.proj.util;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Records how long each phase of a frame takes, plus per-frame counters such as render calls,
+ * into fixed-size ring buffers. Recording doesn't allocate; percentiles sort a preallocated
+ * scratch copy, so only ask for them when they're shown.
+ * <p>
+ * A phase may be timed several times per frame (e.g. once per fixed step); the times add up.
+ */
+public class FrameProfiler {
+    public enum Phase {
+        FRAME, INPUT, SIMULATION, MAP_RENDER, ENTITY_RENDER, UPSCALE
+    }
+
+    public enum Counter {
+        MAP_RENDER_CALLS, ENTITY_RENDER_CALLS
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final Counter[] COUNTERS = Counter.values();
+
+    // Ten seconds at 60 frames per second
+    public static final int DEFAULT_CAPACITY = 600;
+
+    private final int capacity;
+    private final long[][] phaseSamples;
+    private final int[][] counterSamples;
+    private final long[] sortScratch;
+
+    // The frame being recorded
+    private final long[] phaseStart = new long[PHASES.length];
+    private final long[] phaseTotal = new long[PHASES.length];
+    private final int[] counterTotal = new int[COUNTERS.length];
+
+    private int head;
+    private int size;
+    private long frameCount;
+    private boolean enabled = true;
+
+    public FrameProfiler() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public FrameProfiler(int capacity) {
+        this.capacity = capacity;
+        this.phaseSamples = new long[PHASES.length][capacity];
+        this.counterSamples = new int[COUNTERS.length][capacity];
+        this.sortScratch = new long[capacity];
+    }
+
+    public void begin(Phase phase) {
+        if (!enabled) return;
+        phaseStart[phase.ordinal()] = TimeUtils.nanoTime();
+    }
+
+    public void end(Phase phase) {
+        if (!enabled) return;
+        phaseTotal[phase.ordinal()] += TimeUtils.nanoTime() - phaseStart[phase.ordinal()];
+    }
+
+    public void count(Counter counter, int amount) {
+        if (!enabled) return;
+        counterTotal[counter.ordinal()] += amount;
+    }
+
+    /**
+     * Store the current frame's times and counters and start a new frame.
+     */
+    public void endFrame() {
+        if (!enabled) return;
+        for (int i = 0; i < PHASES.length; i++) {
+            phaseSamples[i][head] = phaseTotal[i];
+            phaseTotal[i] = 0;
+        }
+        for (int i = 0; i < COUNTERS.length; i++) {
+            counterSamples[i][head] = counterTotal[i];
+            counterTotal[i] = 0;
+        }
+        head = (head + 1) % capacity;
+        if (size < capacity) size++;
+        frameCount++;
+    }
+
+    /**
+     * The given percentile (0 to 100) of a phase over the recorded frames, in nanoseconds.
+     */
+    public long getPercentile(Phase phase, float percentile) {
+        if (size == 0) return 0;
+        System.arraycopy(phaseSamples[phase.ordinal()], 0, sortScratch, 0, size);
+        Arrays.sort(sortScratch, 0, size);
+        int index = Math.round(percentile / 100f * (size - 1));
+        return sortScratch[Math.max(0, Math.min(size - 1, index))];
+    }
+
+    /**
+     * A counter's value for the most recently finished frame.
+     */
+    public int getLast(Counter counter) {
+        if (size == 0) return 0;
+        return counterSamples[counter.ordinal()][(head - 1 + capacity) % capacity];
+    }
+
+    public float getAverage(Counter counter) {
+        if (size == 0) return 0;
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += counterSamples[counter.ordinal()][i];
+        }
+        return sum / (float) size;
+    }
+
+    /**
+     * Write the recorded frames, oldest first: one row per frame with every phase in microseconds
+     * and every counter.
+     */
+    public void writeCsv(Writer writer) throws IOException {
+        writer.write("frame");
+        for (Phase phase : PHASES) {
+            writer.write(',');
+            writer.write(phase.name().toLowerCase());
+            writer.write("_us");
+        }
+        for (Counter counter : COUNTERS) {
+            writer.write(',');
+            writer.write(counter.name().toLowerCase());
+        }
+        writer.write('\n');
+
+        int oldest = (head - size + capacity) % capacity;
+        for (int i = 0; i < size; i++) {
+            int slot = (oldest + i) % capacity;
+            writer.write(Long.toString(frameCount - size + i));
+            for (int p = 0; p < PHASES.length; p++) {
+                writer.write(',');
+                writer.write(Double.toString(phaseSamples[p][slot] / 1000.0));
+            }
+            for (int c = 0; c < COUNTERS.length; c++) {
+                writer.write(',');
+                writer.write(Integer.toString(counterSamples[c][slot]));
+            }
+            writer.write('\n');
+        }
+    }
+
+    public void writeCsv(FileHandle file) {
+        try (Writer writer = file.writer(false, "UTF-8")) {
+            writeCsv(writer);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Couldn't write frame profile to " + file, e);
+        }
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+        Arrays.fill(phaseTotal, 0);
+        Arrays.fill(counterTotal, 0);
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public long getFrameCount() {
+        return frameCount;
+    }
+}
@@ -0,0 +1,89 @@
+package com.proj.util;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Draws the FrameProfiler percentiles in the top-left corner of the screen.
+ * The text is rebuilt a few times per second into a reused StringBuilder.
+ */
+public class FrameProfilerOverlay implements Disposable {
+    private static final float REFRESH_INTERVAL = 0.5f;
+    private static final float MARGIN = 8f;
+
+    private final FrameProfiler profiler;
+    private final BitmapFont font = new BitmapFont();
+    private final Matrix4 projection = new Matrix4();
+    private final StringBuilder text = new StringBuilder(512);
+    private float sinceRefresh = REFRESH_INTERVAL;
+    private boolean visible;
+
+    public FrameProfilerOverlay(FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    public void toggle() {
+        visible = !visible;
+        sinceRefresh = REFRESH_INTERVAL;
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    /**
+     * Draw in screen pixels over the whole window. batch must not be drawing yet; its projection
+     * and the GL viewport are changed, so the caller applies its own viewport again before drawing.
+     * totalRenderCalls is the batch's render calls since it was created.
+     */
+    public void render(SpriteBatch batch, float delta, int totalRenderCalls) {
+        if (!visible) return;
+
+        sinceRefresh += delta;
+        if (sinceRefresh >= REFRESH_INTERVAL) {
+            sinceRefresh = 0;
+            rebuildText(totalRenderCalls);
+        }
+
+        // The game's viewport is letterboxed; the overlay uses the whole back buffer
+        Gdx.gl.glViewport(0, 0, Gdx.graphics.getBackBufferWidth(), Gdx.graphics.getBackBufferHeight());
+        projection.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        batch.setProjectionMatrix(projection);
+        batch.begin();
+        font.draw(batch, text, MARGIN, Gdx.graphics.getHeight() - MARGIN);
+        batch.end();
+    }
+
+    private void rebuildText(int totalRenderCalls) {
+        text.setLength(0);
+        text.append(Gdx.graphics.getFramesPerSecond()).append(" fps, ")
+            .append(profiler.getSize()).append(" frames (ms p50 / p95 / p99)\n");
+        for (FrameProfiler.Phase phase : FrameProfiler.Phase.values()) {
+            text.append(phase.name()).append(": ");
+            appendMillis(profiler.getPercentile(phase, 50)).append(" / ");
+            appendMillis(profiler.getPercentile(phase, 95)).append(" / ");
+            appendMillis(profiler.getPercentile(phase, 99)).append('\n');
+        }
+        text.append("render calls: map ").append(profiler.getLast(FrameProfiler.Counter.MAP_RENDER_CALLS))
+            .append(", entities ").append(profiler.getLast(FrameProfiler.Counter.ENTITY_RENDER_CALLS))
+            .append(", batch total ").append(totalRenderCalls).append('\n');
+        text.append("F4: dump CSV");
+    }
+
+    // Two decimals without String.format
+    private StringBuilder appendMillis(long nanos) {
+        long hundredths = (nanos + 5000) / 10000;
+        text.append(hundredths / 100).append('.');
+        long fraction = hundredths % 100;
+        if (fraction < 10) text.append('0');
+        return text.append(fraction);
+    }
+
+    @Override
+    public void dispose() {
+        font.dispose();
+    }
+}
@@ -0,0 +1,67 @@
+package com.proj.util;
+
+/**
+ * Picks a render scale from frame times. The scale drops as soon as the smoothed frame time goes
+ * over budget, and the next scale up is tried after a stretch of frames within budget. Every drop
+ * doubles the wait before the next try, so a scale the GPU can't keep up with isn't retried
+ * every few seconds.
+ */
+public class RenderScaleController {
+    // 60 fps with some slack for vsync jitter
+    public static final float DEFAULT_BUDGET = 1f / 55f;
+
+    // Weight of the newest frame in the moving average
+    private static final float SMOOTHING = 0.1f;
+    // Frames right after a change include the new frame buffer's setup, so they're not judged
+    private static final float SETTLE_TIME = 0.5f;
+    private static final float MIN_PROBE_DELAY = 2f;
+    private static final float MAX_PROBE_DELAY = 60f;
+
+    private float budget = DEFAULT_BUDGET;
+    private float average = -1;
+    private float sinceChange;
+    private float probeDelay = MIN_PROBE_DELAY;
+
+    /**
+     * Feed one frame's delta. Returns the scale to use from now on, between 1 and maxScale.
+     */
+    public int update(float delta, int scale, int maxScale) {
+        average = average < 0 ? delta : average + (delta - average) * SMOOTHING;
+        sinceChange += delta;
+        if (sinceChange < SETTLE_TIME) {
+            return Math.min(scale, maxScale);
+        }
+
+        if (average > budget && scale > 1) {
+            probeDelay = Math.min(probeDelay * 2, MAX_PROBE_DELAY);
+            sinceChange = 0;
+            return scale - 1;
+        }
+        if (average <= budget && scale < maxScale && sinceChange >= probeDelay) {
+            sinceChange = 0;
+            return scale + 1;
+        }
+        return Math.min(scale, maxScale);
+    }
+
+    public void reset() {
+        average = -1;
+        sinceChange = 0;
+        probeDelay = MIN_PROBE_DELAY;
+    }
+
+    /**
+     * Frame time budget in seconds.
+     */
+    public void setBudget(float budget) {
+        this.budget = budget;
+    }
+
+    public float getBudget() {
+        return budget;
+    }
+
+    public float getAverage() {
+        return Math.max(average, 0);
+    }
+}
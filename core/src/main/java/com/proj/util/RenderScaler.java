@@ -0,0 +1,191 @@
+package com.proj.util;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.HdpiUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+/**
+ * Renders a viewport's world into an offscreen FrameBuffer at a small multiple of its world size
+ * and then upscales that to the screen with nearest filtering. At scale 1 every world unit is one
+ * texel, the native resolution of the pixel art, so the fill cost no longer grows with the window.
+ * <p>
+ * The scale is fixed unless the dynamic controller is on; it then moves between 1 and the largest
+ * whole multiple that fits the backbuffer, depending on frame times.
+ */
+public class RenderScaler implements Disposable {
+    public enum Mode {
+        // Straight to the backbuffer, as without a scaler
+        OFF,
+        // Stretched over the whole viewport
+        FIT,
+        // Upscaled by whole multiples only, so every texel is the same size; letterboxed
+        INTEGER
+    }
+
+    private static final Mode[] MODES = Mode.values();
+
+    private final RenderScaleController controller = new RenderScaleController();
+    private final Matrix4 projection = new Matrix4().setToOrtho2D(0, 0, 1, 1);
+    private Mode mode = Mode.FIT;
+    private boolean dynamic;
+    private int scale = 1;
+    private int maxScale = 1;
+    private float worldWidth;
+    private float worldHeight;
+
+    private FrameBuffer frameBuffer;
+    private TextureRegion region;
+
+    /**
+     * Call from the screen's resize(), after the viewport has been updated.
+     */
+    public void resize(Viewport viewport) {
+        worldWidth = viewport.getWorldWidth();
+        worldHeight = viewport.getWorldHeight();
+        maxScale = Math.max(1, (int) Math.min(Gdx.graphics.getBackBufferWidth() / worldWidth,
+            Gdx.graphics.getBackBufferHeight() / worldHeight));
+        setScale(scale);
+    }
+
+    /**
+     * Let the dynamic controller pick the scale for the next frame.
+     */
+    public void update(float delta) {
+        if (dynamic && mode != Mode.OFF) {
+            setScale(controller.update(delta, scale, maxScale));
+        }
+    }
+
+    /**
+     * Start drawing the world. Returns false when the scaler is off and drawing goes straight to the
+     * backbuffer; otherwise draw with the world camera as usual and call {@link #end}.
+     */
+    public boolean begin() {
+        if (mode == Mode.OFF || worldWidth <= 0) return false;
+
+        int width = Math.round(worldWidth * scale);
+        int height = Math.round(worldHeight * scale);
+        if (frameBuffer == null || frameBuffer.getWidth() != width || frameBuffer.getHeight() != height) {
+            releaseFrameBuffer();
+            // Opaque, and no depth buffer: the world is drawn back to front
+            frameBuffer = new FrameBuffer(Pixmap.Format.RGB888, width, height, false);
+            Texture texture = frameBuffer.getColorBufferTexture();
+            texture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+            region = new TextureRegion(texture);
+            // Frame buffers are bottom-up
+            region.flip(false, true);
+        }
+
+        frameBuffer.begin();
+        Gdx.gl.glClearColor(0, 0, 0, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        return true;
+    }
+
+    /**
+     * Stop drawing the world and upscale it into the viewport's area of the screen. The viewport is
+     * applied again afterwards. batch must not be drawing; its projection is changed.
+     */
+    public void end(SpriteBatch batch, Viewport viewport) {
+        frameBuffer.end();
+
+        int screenX = viewport.getScreenX();
+        int screenY = viewport.getScreenY();
+        int screenWidth = viewport.getScreenWidth();
+        int screenHeight = viewport.getScreenHeight();
+        if (mode == Mode.INTEGER) {
+            int multiple = (int) Math.min(screenWidth / (float) frameBuffer.getWidth(),
+                screenHeight / (float) frameBuffer.getHeight());
+            // A frame buffer larger than the screen is simply scaled down
+            if (multiple >= 1) {
+                screenX += (screenWidth - frameBuffer.getWidth() * multiple) / 2;
+                screenY += (screenHeight - frameBuffer.getHeight() * multiple) / 2;
+                screenWidth = frameBuffer.getWidth() * multiple;
+                screenHeight = frameBuffer.getHeight() * multiple;
+            }
+        }
+        HdpiUtils.glViewport(screenX, screenY, screenWidth, screenHeight);
+
+        // Every texel is overwritten, so there's nothing to blend with
+        batch.setProjectionMatrix(projection);
+        batch.disableBlending();
+        batch.begin();
+        batch.draw(region, 0, 0, 1, 1);
+        batch.end();
+        batch.enableBlending();
+
+        viewport.apply();
+    }
+
+    private void setScale(int scale) {
+        this.scale = Math.max(1, Math.min(scale, maxScale));
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    /**
+     * Fixed scale, used while the dynamic controller is off. Clamped to what fits the backbuffer.
+     */
+    public void setFixedScale(int scale) {
+        setScale(scale);
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+        if (mode == Mode.OFF) {
+            releaseFrameBuffer();
+        }
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public Mode cycleMode() {
+        setMode(MODES[(mode.ordinal() + 1) % MODES.length]);
+        return mode;
+    }
+
+    public boolean isEnabled() {
+        return mode != Mode.OFF;
+    }
+
+    public void setDynamic(boolean dynamic) {
+        this.dynamic = dynamic;
+        controller.reset();
+    }
+
+    public boolean isDynamic() {
+        return dynamic;
+    }
+
+    public RenderScaleController getController() {
+        return controller;
+    }
+
+    /**
+     * Free the frame buffer; the next begin() creates it again.
+     */
+    public void releaseFrameBuffer() {
+        if (frameBuffer != null) {
+            frameBuffer.dispose();
+            frameBuffer = null;
+            region = null;
+        }
+    }
+
+    @Override
+    public void dispose() {
+        releaseFrameBuffer();
+    }
+}
@@ -0,0 +1,129 @@
+package com.proj.util;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Startup milestones, from JVM start until the game first takes input. Each milestone is recorded
+ * once, with the time since the JVM started and the number of classes loaded so far, so the report
+ * shows where startup goes: JVM and launcher classes, window and GL setup, asset loading, video setup.
+ * <p>
+ * Tracing is off unless the launcher enables it, since reading the class count loads the JMX
+ * classes. The report is logged when the game becomes interactive. If a report file was given, a
+ * CSV row is also appended to it and the game exits; the lwjgl3:startupBenchmark task does that
+ * repeatedly. If StartupHelper restarts the JVM, the times are those of the restarted one.
+ */
+public final class StartupTrace {
+    public enum Milestone {
+        // Lwjgl3Launcher.main entered
+        MAIN,
+        // StartupHelper done, about to create the window
+        LAUNCHER_READY,
+        // Window and GL context up, ApplicationListener.create() called
+        GAME_CREATE,
+        // LoadingScreen queued the startup assets
+        ASSETS_QUEUED,
+        // First frame drawn (time to first frame)
+        FIRST_FRAME,
+        ASSETS_LOADED,
+        // Cutscene video opened, whichever player it ended up with
+        VIDEO_READY,
+        // First frame that takes input (time to interactive)
+        INTERACTIVE
+    }
+
+    private static final Milestone[] MILESTONES = Milestone.values();
+    private static final long[] millis = new long[MILESTONES.length];
+    private static final int[] classCounts = new int[MILESTONES.length];
+    private static final boolean[] recorded = new boolean[MILESTONES.length];
+
+    private static boolean enabled;
+    private static FileHandle reportFile;
+    private static ClassLoadingMXBean classLoading;
+    // System.nanoTime() at JVM start
+    private static long jvmStartNanos;
+
+    private StartupTrace() {
+    }
+
+    /**
+     * Start tracing. reportFile may be null to only log the report.
+     */
+    public static void enable(FileHandle reportFile) {
+        long now = System.nanoTime();
+        jvmStartNanos = now - ManagementFactory.getRuntimeMXBean().getUptime() * 1_000_000L;
+        classLoading = ManagementFactory.getClassLoadingMXBean();
+        StartupTrace.reportFile = reportFile;
+        enabled = true;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void mark(Milestone milestone) {
+        if (!enabled) return;
+        int index = milestone.ordinal();
+        if (recorded[index]) return;
+        recorded[index] = true;
+        millis[index] = (System.nanoTime() - jvmStartNanos) / 1_000_000L;
+        classCounts[index] = (int) classLoading.getTotalLoadedClassCount();
+
+        if (milestone == Milestone.INTERACTIVE) {
+            Gdx.app.log("StartupTrace", buildReport());
+            if (reportFile != null) {
+                appendCsv(reportFile);
+                Gdx.app.exit();
+            }
+        }
+    }
+
+    /**
+     * Milliseconds since JVM start, or -1 if the milestone hasn't been reached.
+     */
+    public static long getMillis(Milestone milestone) {
+        return recorded[milestone.ordinal()] ? millis[milestone.ordinal()] : -1;
+    }
+
+    /**
+     * One line per reached milestone: time since JVM start, time since the previous milestone
+     * and classes loaded in between.
+     */
+    public static String buildReport() {
+        StringBuilder report = new StringBuilder(512);
+        report.append("Startup (ms since JVM start / ms since previous / classes loaded since previous)");
+        long previousMillis = 0;
+        int previousClasses = 0;
+        for (int i = 0; i < MILESTONES.length; i++) {
+            if (!recorded[i]) continue;
+            report.append('\n').append(MILESTONES[i].name()).append(": ")
+                .append(millis[i]).append(" / +").append(millis[i] - previousMillis)
+                .append(" / +").append(classCounts[i] - previousClasses);
+            previousMillis = millis[i];
+            previousClasses = classCounts[i];
+        }
+        return report.toString();
+    }
+
+    // Writes the header first if the file is new, so runs of the same build line up
+    private static void appendCsv(FileHandle file) {
+        StringBuilder row = new StringBuilder(256);
+        if (!file.exists()) {
+            for (int i = 0; i < MILESTONES.length; i++) {
+                if (i > 0) row.append(',');
+                String name = MILESTONES[i].name().toLowerCase();
+                row.append(name).append("_ms,").append(name).append("_classes");
+            }
+            row.append('\n');
+        }
+        for (int i = 0; i < MILESTONES.length; i++) {
+            if (i > 0) row.append(',');
+            row.append(recorded[i] ? millis[i] : -1).append(',').append(recorded[i] ? classCounts[i] : -1);
+        }
+        row.append('\n');
+        file.writeString(row.toString(), true, "UTF-8");
+    }
+}
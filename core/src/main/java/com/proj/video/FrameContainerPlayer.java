@@ -0,0 +1,354 @@
+package com.proj.video;
+
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Plays the pre-decoded frame containers (".tvf") written by the transcodeVideos Gradle task.
+ * Frames are read through a memory mapping of a window of the file, which moves along as the video
+ * plays, so containers of any size play without being read into memory. Uncompressed frames are
+ * uploaded straight from the mapping; deflated frames are inflated into one reused buffer first.
+ * Either way a shown frame costs one glTexSubImage2D and no video decoding. Files that aren't on
+ * disk, e.g. inside a jar, are streamed instead. The index makes seeking a binary search.
+ * <p>
+ * The container holds no sound. The sound track of the original video, if given, is played
+ * alongside and drives the clock, as in JcodecVideoPlayer.
+ * <p>
+ * Layout (big-endian), kept in sync with transcodeVideos in the root build.gradle:
+ * <pre>
+ * int    magic 'TXV1', short version
+ * int    width, height
+ * byte   compression (0 none, 1 deflate)
+ * int    frame count, then per frame: long offset, int length, float time in seconds
+ * ...    frame data: RGB888 rows, top row first, optionally deflated
+ * </pre>
+ */
+public class FrameContainerPlayer implements VideoPlayback {
+    public static final int MAGIC = 0x54585631;
+    public static final int VERSION = 1;
+
+    public static final byte COMPRESSION_NONE = 0;
+    public static final byte COMPRESSION_DEFLATE = 1;
+
+    /**
+     * The largest frame the player reads, stored or decoded. transcodeVideos refuses to write larger ones.
+     */
+    public static final int MAX_FRAME_BYTES = 64 << 20;
+    // Mapped at a time; a few seconds of raw 1080p, so the mapping moves rarely
+    private static final long WINDOW_BYTES = 256L << 20;
+
+    private final FileHandle file;
+    private final int width;
+    private final int height;
+    private final byte compression;
+    private final long[] offsets;
+    private final int[] lengths;
+    private final float[] times;
+
+    // Files on disk: the mapped window, and a view of it moved to the frame being uploaded
+    private final FileChannel channel;
+    private ByteBuffer window;
+    private ByteBuffer frameView;
+    private long windowStart;
+    private long windowEnd;
+
+    // Other files: read front to back, and opened again to go back
+    private InputStream stream;
+    private long streamPosition;
+    private final byte[] readBuffer;
+    private final ByteBuffer streamedFrame;
+
+    private final Inflater inflater;
+    private final ByteBuffer inflated;
+
+    // Null if there is no sound
+    private JcodecAudioTrack audio;
+
+    private Texture texture;
+    private double clock;
+    // Index of the frame in the texture, -1 before the first upload
+    private int shownFrame = -1;
+    private boolean paused;
+    private boolean finished;
+
+    public FrameContainerPlayer(FileHandle file) {
+        this(file, null, false);
+    }
+
+    /**
+     * soundSource is the video the container was transcoded from, whose sound track is played
+     * alongside, or null for none. If requireAudio is set, a sound track that can't be played is an
+     * error rather than being left out.
+     */
+    public FrameContainerPlayer(FileHandle file, FileHandle soundSource, boolean requireAudio) {
+        this.file = file;
+        DataInputStream header = new DataInputStream(new BufferedInputStream(file.read()));
+        int maxLength = 0;
+        try {
+            if (header.readInt() != MAGIC) {
+                throw new GdxRuntimeException("Not a frame container");
+            }
+            int version = header.readShort();
+            if (version != VERSION) {
+                throw new GdxRuntimeException("Unsupported frame container version " + version + ", transcode the video again");
+            }
+            width = header.readInt();
+            height = header.readInt();
+            compression = header.readByte();
+            if ((long) width * height * 3 > MAX_FRAME_BYTES) {
+                throw new GdxRuntimeException("Frames of " + width + "x" + height + " are too large, transcode the video again");
+            }
+
+            int frameCount = header.readInt();
+            offsets = new long[frameCount];
+            lengths = new int[frameCount];
+            times = new float[frameCount];
+            for (int i = 0; i < frameCount; i++) {
+                offsets[i] = header.readLong();
+                lengths[i] = header.readInt();
+                times[i] = header.readFloat();
+                if (lengths[i] < 0 || lengths[i] > MAX_FRAME_BYTES) {
+                    throw new GdxRuntimeException("Frame " + i + " is too large, transcode the video again");
+                }
+                maxLength = Math.max(maxLength, lengths[i]);
+            }
+        } catch (IOException | RuntimeException e) {
+            throw new GdxRuntimeException("Couldn't read frame container: " + file, e);
+        } finally {
+            StreamUtils.closeQuietly(header);
+        }
+
+        channel = openChannel(file);
+        if (channel == null) {
+            readBuffer = new byte[maxLength];
+            streamedFrame = BufferUtils.newByteBuffer(maxLength);
+        } else {
+            readBuffer = null;
+            streamedFrame = null;
+        }
+
+        if (compression == COMPRESSION_DEFLATE) {
+            inflater = new Inflater();
+            inflated = BufferUtils.newByteBuffer(width * height * 3);
+        } else {
+            inflater = null;
+            inflated = null;
+        }
+        finished = offsets.length == 0;
+
+        if (soundSource != null) {
+            try {
+                audio = JcodecVideoPlayer.openAudio(soundSource, requireAudio);
+            } catch (IOException e) {
+                dispose();
+                throw new GdxRuntimeException("Can't play the sound of " + soundSource, e);
+            }
+        }
+    }
+
+    // Null if the file isn't on disk
+    private static FileChannel openChannel(FileHandle file) {
+        if (file.type() == Files.FileType.Classpath || !file.file().exists()) return null;
+        try {
+            return FileChannel.open(file.file().toPath(), StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Couldn't open frame container: " + file, e);
+        }
+    }
+
+    @Override
+    public void update(float delta) {
+        if (paused || finished) return;
+        if (audio != null && !audio.isFinished()) {
+            // Sound can't skip, so the picture follows it
+            audio.start();
+            clock = Math.max(clock, audio.getPosition());
+        } else {
+            clock += delta;
+        }
+
+        // Jump straight to the newest due frame; frames in between are never read
+        int due = shownFrame;
+        while (due + 1 < times.length && times[due + 1] <= clock) {
+            due++;
+        }
+        if (due != shownFrame && due >= 0) {
+            upload(due);
+        }
+
+        // The last frame stays up for as long as the one before it
+        float lastDuration = times.length > 1 ? times[times.length - 1] - times[times.length - 2] : 0;
+        finished = due == times.length - 1 && clock >= times[times.length - 1] + lastDuration;
+    }
+
+    /**
+     * Jump to the frame shown at the given time in seconds. The sound track can't seek, so it
+     * stops and the rest plays silently.
+     */
+    public void seek(float time) {
+        if (audio != null) {
+            audio.dispose();
+            audio = null;
+        }
+        clock = Math.max(0, time);
+        int low = 0;
+        int high = times.length - 1;
+        // Last frame whose time is not after the clock
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (times[mid] <= clock) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        finished = false;
+        if (times.length > 0) {
+            upload(low);
+        }
+    }
+
+    private void upload(int frame) {
+        if (texture == null) {
+            texture = new Texture(width, height, Pixmap.Format.RGB888);
+            texture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        }
+
+        ByteBuffer pixels;
+        try {
+            pixels = channel != null ? mapped(frame) : streamed(frame);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Couldn't read frame " + frame + " of " + file, e);
+        }
+        if (compression == COMPRESSION_DEFLATE) {
+            pixels = inflate(pixels);
+        }
+
+        texture.bind();
+        Gdx.gl.glPixelStorei(GL20.GL_UNPACK_ALIGNMENT, 1);
+        Gdx.gl.glTexSubImage2D(GL20.GL_TEXTURE_2D, 0, 0, 0, width, height, GL20.GL_RGB, GL20.GL_UNSIGNED_BYTE, pixels);
+        shownFrame = frame;
+    }
+
+    // The frame inside the mapped window, moving the window to start at the frame if it isn't
+    private ByteBuffer mapped(int frame) throws IOException {
+        long start = offsets[frame];
+        long end = start + lengths[frame];
+        if (window == null || start < windowStart || end > windowEnd) {
+            long size = channel.size();
+            if (end > size) {
+                throw new IOException("Frame data past the end of the file");
+            }
+            windowStart = start;
+            windowEnd = Math.min(size, start + Math.max(WINDOW_BYTES, lengths[frame]));
+            // The previous mapping is released once it's garbage collected
+            window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowEnd - windowStart);
+            frameView = window.duplicate();
+        }
+        int position = (int) (start - windowStart);
+        frameView.limit(position + lengths[frame]).position(position);
+        return frameView;
+    }
+
+    private ByteBuffer streamed(int frame) throws IOException {
+        long start = offsets[frame];
+        if (stream == null || start < streamPosition) {
+            StreamUtils.closeQuietly(stream);
+            stream = file.read();
+            streamPosition = 0;
+        }
+        stream.skipNBytes(start - streamPosition);
+        int length = lengths[frame];
+        if (stream.readNBytes(readBuffer, 0, length) != length) {
+            throw new IOException("Frame data past the end of the file");
+        }
+        streamPosition = start + length;
+
+        streamedFrame.clear();
+        streamedFrame.put(readBuffer, 0, length).flip();
+        return streamedFrame;
+    }
+
+    private ByteBuffer inflate(ByteBuffer compressed) {
+        inflater.reset();
+        inflater.setInput(compressed);
+        inflated.clear();
+        try {
+            while (inflated.hasRemaining() && !inflater.finished()) {
+                if (inflater.inflate(inflated) == 0 && inflater.needsInput()) break;
+            }
+        } catch (DataFormatException e) {
+            throw new GdxRuntimeException("Corrupt video frame", e);
+        }
+        inflated.flip();
+        return inflated;
+    }
+
+    @Override
+    public Texture getTexture() {
+        return texture;
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    public int getFrameCount() {
+        return times.length;
+    }
+
+    @Override
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+        if (audio != null) {
+            audio.setPaused(paused);
+        }
+    }
+
+    @Override
+    public boolean isFinished() {
+        return finished;
+    }
+
+    @Override
+    public void dispose() {
+        if (audio != null) {
+            audio.dispose();
+            audio = null;
+        }
+        if (texture != null) {
+            texture.dispose();
+            texture = null;
+        }
+        if (inflater != null) {
+            inflater.end();
+        }
+        window = null;
+        frameView = null;
+        StreamUtils.closeQuietly(channel);
+        StreamUtils.closeQuietly(stream);
+    }
+}
@@ -0,0 +1,137 @@
+package com.proj.video;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.TimeUtils;
+import javafx.application.Platform;
+import javafx.embed.swing.JFXPanel;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.media.Media;
+import javafx.scene.media.MediaPlayer;
+import javafx.scene.media.MediaView;
+
+import javax.swing.JFrame;
+import javax.swing.SwingUtilities;
+import java.io.File;
+
+/**
+ * Plays a video with JavaFX media in a separate window, for when it can't be decoded in-engine.
+ * This is the only class that touches JavaFX, so the toolkit and its classes are loaded the first
+ * time one is created rather than at startup.
+ */
+public class JavaFxVideoWindow implements Disposable {
+    private static final String TAG = "JavaFxVideoWindow";
+    private static boolean toolkitStarted;
+
+    private JFrame videoFrame;
+    private MediaPlayer mediaPlayer;
+    // Set from the JavaFX thread
+    private volatile boolean finished;
+    private volatile boolean failed;
+
+    public JavaFxVideoWindow(File videoFile) {
+        startToolkit();
+
+        // Create a separate frame for video display
+        SwingUtilities.invokeLater(() -> {
+            videoFrame = new JFrame("Video");
+            videoFrame.setSize(800, 480);
+            videoFrame.setLocationRelativeTo(null);
+            videoFrame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
+
+            JFXPanel videoPanel = new JFXPanel();
+            videoFrame.add(videoPanel);
+            videoFrame.setVisible(true);
+
+            // Create Media and MediaPlayer on the JavaFX thread
+            Platform.runLater(() -> {
+                try {
+                    Group root = new Group();
+                    Scene scene = new Scene(root);
+                    videoPanel.setScene(scene);
+
+                    Media media = new Media(videoFile.toURI().toString());
+                    mediaPlayer = new MediaPlayer(media);
+                    MediaView mediaView = new MediaView(mediaPlayer);
+
+                    // Size the video view
+                    mediaView.setFitWidth(800);
+                    mediaView.setFitHeight(480);
+                    mediaView.setPreserveRatio(true);
+
+                    root.getChildren().add(mediaView);
+
+                    mediaPlayer.setOnEndOfMedia(() -> {
+                        finished = true;
+                        Platform.runLater(this::dispose);
+                    });
+
+                    mediaPlayer.play();
+                } catch (Exception e) {
+                    Gdx.app.error(TAG, "Error initializing video: " + e.getMessage(), e);
+                    failed = true;
+                    closeFrame();
+                }
+            });
+        });
+    }
+
+    private static void startToolkit() {
+        if (toolkitStarted) return;
+
+        // Use System property to fix module error
+        System.setProperty("javafx.preloader", "com.sun.javafx.application.LauncherImpl");
+        System.setProperty("java.util.logging.config.file", "logging.properties");
+
+        long start = TimeUtils.millis();
+        new JFXPanel(); // Initialize JavaFX platform
+        toolkitStarted = true;
+        Gdx.app.log(TAG, "JavaFX started in " + TimeUtils.timeSinceMillis(start) + " ms");
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public boolean hasFailed() {
+        return failed;
+    }
+
+    public void pause() {
+        Platform.runLater(() -> {
+            if (mediaPlayer != null) {
+                mediaPlayer.pause();
+            }
+        });
+    }
+
+    public void resume() {
+        Platform.runLater(() -> {
+            if (mediaPlayer != null && !finished) {
+                mediaPlayer.play();
+            }
+        });
+    }
+
+    @Override
+    public void dispose() {
+        Platform.runLater(() -> {
+            // Disposing also stops playback
+            if (mediaPlayer != null) {
+                mediaPlayer.dispose();
+                mediaPlayer = null;
+            }
+        });
+        closeFrame();
+    }
+
+    private void closeFrame() {
+        SwingUtilities.invokeLater(() -> {
+            if (videoFrame != null) {
+                videoFrame.dispose();
+                videoFrame = null;
+            }
+        });
+    }
+}
@@ -0,0 +1,200 @@
+package com.proj.video;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.audio.AudioDevice;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import org.jcodec.codecs.aac.AACDecoder;
+import org.jcodec.common.AudioBuffer;
+import org.jcodec.common.AudioFormat;
+import org.jcodec.common.Codec;
+import org.jcodec.common.DemuxerTrack;
+import org.jcodec.common.DemuxerTrackMeta;
+import org.jcodec.common.io.SeekableByteChannel;
+import org.jcodec.common.model.Packet;
+import org.jcodec.containers.mp4.demuxer.MP4Demuxer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
+
+/**
+ * The AAC track of an MP4, decoded with jcodec and played through an AudioDevice on its own thread.
+ * Writing to the device blocks while its buffers are full, so the thread is paced by playback, and
+ * {@link #getPosition()} is what has actually been heard. Video players use it as their clock.
+ */
+final class JcodecAudioTrack implements Disposable {
+    private static final String TAG = "JcodecAudioTrack";
+    // Checked while paused; short enough that resuming isn't noticeably late
+    private static final long PAUSE_POLL_MILLIS = 10;
+
+    private final SeekableByteChannel channel;
+    private final DemuxerTrack track;
+    private final AACDecoder decoder;
+    private final AudioDevice device;
+    // Of the device: 1 or 2
+    private final int channels;
+    private final int sampleRate;
+    private final Thread thread;
+
+    private volatile boolean running = true;
+    private volatile boolean paused;
+    private volatile boolean finished;
+    // Sample frames (one sample per channel) handed to the device
+    private volatile long framesWritten;
+
+    // Audio thread only, apart from the first frame decoded by open()
+    private AudioBuffer pending;
+    private final ByteBuffer scratch = ByteBuffer.allocate(1 << 16);
+    private short[] samples = new short[0];
+
+    private JcodecAudioTrack(SeekableByteChannel channel, DemuxerTrack track, AACDecoder decoder, AudioBuffer first) {
+        this.channel = channel;
+        this.track = track;
+        this.decoder = decoder;
+        this.pending = first;
+        AudioFormat format = first.getFormat();
+        channels = format.getChannels() == 1 ? 1 : 2;
+        sampleRate = format.getSampleRate();
+        device = Gdx.audio.newAudioDevice(sampleRate, channels == 1);
+
+        thread = new Thread(this::play, "Audio decoder");
+        thread.setDaemon(true);
+    }
+
+    /**
+     * The file's first AAC track, ready to {@link #start()}, or null if the file has none.
+     * Throws if there is one but it can't be played, e.g. because there is no audio backend.
+     */
+    static JcodecAudioTrack open(FileHandle file) throws IOException {
+        SeekableByteChannel channel = JcodecVideoPlayer.openChannel(file);
+        try {
+            MP4Demuxer demuxer = MP4Demuxer.createMP4Demuxer(channel);
+            for (DemuxerTrack track : demuxer.getAudioTracks()) {
+                DemuxerTrackMeta meta = track.getMeta();
+                if (meta.getCodec() != Codec.AAC) continue;
+                if (Gdx.audio == null) {
+                    throw new IOException("No audio backend to play " + file);
+                }
+
+                AACDecoder decoder = new AACDecoder(meta.getCodecPrivate());
+                Packet packet = track.nextFrame();
+                if (packet == null) break;
+                AudioBuffer first = decoder.decodeFrame(packet.getData(), ByteBuffer.allocate(1 << 16));
+                if (first.getFormat().getSampleSizeInBits() != 16) {
+                    throw new IOException("Unsupported sample size " + first.getFormat().getSampleSizeInBits() + " in " + file);
+                }
+                return new JcodecAudioTrack(channel, track, decoder, first);
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        } catch (RuntimeException | LinkageError e) {
+            // GdxRuntimeException from the audio backend, or a jcodec build without its AAC decoder
+            channel.close();
+            throw new IOException("Can't play the audio of " + file, e);
+        }
+        channel.close();
+        return null;
+    }
+
+    /**
+     * Start playing. Does nothing if already started.
+     */
+    void start() {
+        if (thread.getState() == Thread.State.NEW) {
+            thread.start();
+        }
+    }
+
+    private void play() {
+        try {
+            AudioBuffer buffer = pending;
+            pending = null;
+            while (running) {
+                if (buffer == null) {
+                    Packet packet = track.nextFrame();
+                    if (packet == null) break;
+                    buffer = decoder.decodeFrame(packet.getData(), scratch);
+                }
+                // The device isn't paused itself: it plays out what it has buffered, so a write
+                // never waits on a stopped source
+                while (paused && running) {
+                    Thread.sleep(PAUSE_POLL_MILLIS);
+                }
+                if (!running) break;
+                write(buffer);
+                buffer = null;
+            }
+        } catch (InterruptedException e) {
+            // Disposed
+        } catch (Exception e) {
+            Gdx.app.error(TAG, "Decoding audio failed", e);
+        } finally {
+            finished = true;
+        }
+    }
+
+    private void write(AudioBuffer buffer) {
+        AudioFormat format = buffer.getFormat();
+        ByteBuffer data = buffer.getData().duplicate()
+            .order(format.isBigEndian() ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+        ShortBuffer source = data.asShortBuffer();
+        int sourceChannels = format.getChannels();
+        int frames = source.remaining() / sourceChannels;
+        int count = frames * channels;
+        if (samples.length < count) {
+            samples = new short[count];
+        }
+        if (sourceChannels == channels) {
+            source.get(samples, 0, count);
+        } else {
+            // More than two channels: keep the front left and right ones
+            for (int frame = 0; frame < frames; frame++) {
+                for (int c = 0; c < channels; c++) {
+                    samples[frame * channels + c] = source.get(frame * sourceChannels + c);
+                }
+            }
+        }
+        device.writeSamples(samples, 0, count);
+        framesWritten += frames;
+    }
+
+    /**
+     * Seconds of audio played so far: what was handed to the device minus what it still has buffered.
+     */
+    double getPosition() {
+        long played = framesWritten - device.getLatency();
+        return Math.max(0, played) / (double) sampleRate;
+    }
+
+    void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    /**
+     * True once the whole track has been handed to the device, or decoding failed.
+     */
+    boolean isFinished() {
+        return finished;
+    }
+
+    @Override
+    public void dispose() {
+        running = false;
+        thread.interrupt();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        device.dispose();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Couldn't close audio", e);
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.proj.video;
+
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import org.jcodec.api.FrameGrab;
+import org.jcodec.api.JCodecException;
+import org.jcodec.common.io.ByteBufferSeekableByteChannel;
+import org.jcodec.common.io.NIOUtils;
+import org.jcodec.common.io.SeekableByteChannel;
+import org.jcodec.common.model.ColorSpace;
+import org.jcodec.common.model.Picture;
+import org.jcodec.common.model.PictureWithMetadata;
+import org.jcodec.scale.ColorUtil;
+import org.jcodec.scale.Transform;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Streams an MP4 (H.264) video with jcodec. A decoder thread converts pictures to RGB into a small
+ * ring of reusable Pixmaps; the render thread uploads the frame that is due into a single Texture.
+ * <p>
+ * The playback clock is the position of the AAC track, played by JcodecAudioTrack, or the time
+ * passed to update() when there is no sound. Frames are dropped on both sides to stay on it: the
+ * decoder skips converting frames that are already late, and update() only uploads the newest due
+ * frame when several are waiting.
+ */
+public class JcodecVideoPlayer implements VideoPlayback {
+    private static final String TAG = "JcodecVideoPlayer";
+    // Decoded frames waiting to be shown; a few are enough to ride out decoder hiccups
+    private static final int RING_SIZE = 4;
+
+    private static class Frame {
+        Pixmap pixmap;
+        double time;
+    }
+
+    private final SeekableByteChannel channel;
+    private final FrameGrab grab;
+    private final Thread decoderThread;
+    // Null if the video has no sound or it can't be played
+    private final JcodecAudioTrack audio;
+
+    // Frames cycle from free to decoded (decoder thread) and back to free (render thread)
+    private final ArrayBlockingQueue<Frame> free = new ArrayBlockingQueue<>(RING_SIZE);
+    private final ArrayBlockingQueue<Frame> decoded = new ArrayBlockingQueue<>(RING_SIZE);
+    private final Frame[] frames = new Frame[RING_SIZE];
+
+    // Playback position in seconds, written by the render thread
+    private volatile double clock;
+    private volatile boolean endOfStream;
+    private volatile boolean running = true;
+    private volatile Exception error;
+    private volatile int width;
+    private volatile int height;
+
+    // Render thread only
+    private Texture texture;
+    private boolean paused;
+    private boolean finished;
+    private int droppedFrames;
+
+    // Decoder thread only
+    private Transform transform;
+    private Picture rgb;
+    private byte[] row;
+
+    /**
+     * If requireAudio is set, a sound track that can't be played is an error rather than being
+     * left out, so the caller can fall back to a player that has sound.
+     */
+    public JcodecVideoPlayer(FileHandle file, boolean requireAudio) throws IOException {
+        audio = openAudio(file, requireAudio);
+        channel = openChannel(file);
+        try {
+            grab = FrameGrab.createFrameGrab(channel);
+        } catch (JCodecException | RuntimeException e) {
+            channel.close();
+            if (audio != null) audio.dispose();
+            throw new IOException("Can't play " + file + " with jcodec", e);
+        }
+        for (int i = 0; i < RING_SIZE; i++) {
+            frames[i] = new Frame();
+            free.add(frames[i]);
+        }
+
+        decoderThread = new Thread(this::decode, "Video decoder");
+        decoderThread.setDaemon(true);
+        decoderThread.start();
+    }
+
+    /**
+     * The sound track of the file, or null if it has none. Without requireAudio, one that can't be
+     * played is logged and left out.
+     */
+    static JcodecAudioTrack openAudio(FileHandle file, boolean requireAudio) throws IOException {
+        try {
+            return JcodecAudioTrack.open(file);
+        } catch (IOException e) {
+            if (requireAudio) throw e;
+            Gdx.app.error(TAG, "Can't play the sound of " + file + ", playing it silently", e);
+            return null;
+        }
+    }
+
+    // Files on disk are read as they play; classpath files have to be read into memory first
+    static SeekableByteChannel openChannel(FileHandle file) throws IOException {
+        if (file.type() != Files.FileType.Classpath && file.file().exists()) {
+            return NIOUtils.readableChannel(file.file());
+        }
+        byte[] bytes = file.readBytes();
+        return ByteBufferSeekableByteChannel.readFromByteBuffer(ByteBuffer.wrap(bytes));
+    }
+
+    private void decode() {
+        try {
+            PictureWithMetadata picture;
+            while (running && (picture = grab.getNativeFrameWithMetadata()) != null) {
+                // Later frames still reference a late one, so it had to be decoded, but not shown
+                if (picture.getTimestamp() + picture.getDuration() < clock) {
+                    continue;
+                }
+
+                Frame frame = free.take();
+                convert(picture.getPicture(), frame);
+                frame.time = picture.getTimestamp();
+                decoded.put(frame);
+            }
+        } catch (InterruptedException e) {
+            // Disposed
+        } catch (Exception e) {
+            error = e;
+        } finally {
+            endOfStream = true;
+        }
+    }
+
+    private void convert(Picture picture, Frame frame) {
+        if (rgb == null) {
+            transform = ColorUtil.getTransform(picture.getColor(), ColorSpace.RGB);
+            rgb = Picture.create(picture.getWidth(), picture.getHeight(), ColorSpace.RGB);
+            width = picture.getCroppedWidth();
+            height = picture.getCroppedHeight();
+            row = new byte[width * 3];
+        }
+        if (frame.pixmap == null) {
+            frame.pixmap = new Pixmap(width, height, Pixmap.Format.RGB888);
+        }
+        transform.transform(picture, rgb);
+
+        // jcodec stores samples as signed bytes centred on 0; the rows are padded to whole macroblocks
+        byte[] data = rgb.getPlaneData(0);
+        int stride = rgb.getWidth() * 3;
+        ByteBuffer pixels = frame.pixmap.getPixels();
+        pixels.position(0);
+        for (int y = 0; y < height; y++) {
+            int offset = y * stride;
+            for (int x = 0; x < row.length; x++) {
+                row[x] = (byte) (data[offset + x] + 128);
+            }
+            pixels.put(row);
+        }
+        pixels.position(0);
+    }
+
+    @Override
+    public void update(float delta) {
+        if (paused || finished) return;
+        if (audio != null && !audio.isFinished()) {
+            // Sound can't skip, so the picture follows it
+            audio.start();
+            clock = Math.max(clock, audio.getPosition());
+        } else {
+            clock += delta;
+        }
+
+        // Only the newest due frame is uploaded; anything older is dropped
+        Frame due = null;
+        Frame head;
+        while ((head = decoded.peek()) != null && head.time <= clock) {
+            decoded.poll();
+            if (due != null) {
+                free.offer(due);
+                droppedFrames++;
+            }
+            due = head;
+        }
+        if (due != null) {
+            upload(due.pixmap);
+            free.offer(due);
+        }
+
+        if (error != null) {
+            Gdx.app.error(TAG, "Decoding failed", error);
+            finished = true;
+        } else if (endOfStream && decoded.isEmpty()) {
+            finished = true;
+            if (droppedFrames > 0) {
+                Gdx.app.log(TAG, "Dropped " + droppedFrames + " frames");
+            }
+        }
+    }
+
+    private void upload(Pixmap pixmap) {
+        if (texture == null) {
+            texture = new Texture(pixmap.getWidth(), pixmap.getHeight(), Pixmap.Format.RGB888);
+            texture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        }
+        // glTexSubImage2D into the existing texture
+        texture.draw(pixmap, 0, 0);
+    }
+
+    @Override
+    public Texture getTexture() {
+        return texture;
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+        if (audio != null) {
+            audio.setPaused(paused);
+        }
+    }
+
+    @Override
+    public boolean isFinished() {
+        return finished;
+    }
+
+    @Override
+    public void dispose() {
+        running = false;
+        decoderThread.interrupt();
+        try {
+            decoderThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (audio != null) {
+            audio.dispose();
+        }
+
+        for (Frame frame : frames) {
+            if (frame.pixmap != null) {
+                frame.pixmap.dispose();
+                frame.pixmap = null;
+            }
+        }
+        if (texture != null) {
+            texture.dispose();
+            texture = null;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Couldn't close video", e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.proj.video;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * A video played inside the render loop. Every frame, call {@link #update(float)} and then draw
+ * {@link #getTexture()}; the texture is reused for every video frame.
+ */
+public interface VideoPlayback extends Disposable {
+    /**
+     * Advance the playback clock and upload the frame that is due, if it changed.
+     * Must be called on the render thread.
+     */
+    void update(float delta);
+
+    /**
+     * The current frame, or null until the first one has been uploaded.
+     */
+    Texture getTexture();
+
+    /** Width of the picture in pixels; the texture may be larger. */
+    int getWidth();
+
+    /** Height of the picture in pixels; the texture may be larger. */
+    int getHeight();
+
+    /**
+     * Stop or restart the playback clock.
+     */
+    void setPaused(boolean paused);
+
+    /**
+     * True once the last frame has been shown, or playback failed.
+     */
+    boolean isFinished();
+}
@@ -0,0 +1,16 @@
+package com.proj.headless;
+
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+/** Launches the per-frame allocation check of GameScreen. */
+public class AllocationCheckLauncher {
+    public static void main(String[] args) {
+        FrameAllocationCheck.Settings settings = FrameAllocationCheck.Settings.parse(args);
+
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        // Frames are driven by the check itself, in create()
+        configuration.updatesPerSecond = -1;
+        new HeadlessApplication(new FrameAllocationCheck(settings), configuration);
+    }
+}
@@ -0,0 +1,153 @@
+package com.proj.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.backends.headless.mock.input.MockInput;
+import com.proj.Screens.GameScreen;
+import com.proj.assets.LevelAssets;
+import com.proj.core.GameSimulation;
+import com.proj.core.TechXplorerGame;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Drives GameScreen frame by frame without a GPU and checks that steady-state frames don't
+ * allocate. Bytes are counted per frame on the render thread with
+ * com.sun.management.ThreadMXBean.getCurrentThreadAllocatedBytes. The exit code is 1 if any
+ * measured frame allocates more than the budget.
+ * <p>
+ * Warm-up frames cover the boss spawn effect, JIT compilation and streaming in the next level,
+ * which are all allowed to allocate.
+ */
+public class FrameAllocationCheck extends ApplicationAdapter {
+    private static final String TAG = "AllocationCheck";
+
+    // Frames between direction changes of the scripted input, one second
+    private static final int TURN_INTERVAL = 60;
+    private static final int[] WALK_KEYS = {Input.Keys.RIGHT, Input.Keys.DOWN, Input.Keys.LEFT, Input.Keys.UP};
+
+    public static class Settings {
+        public int level = 0;
+        // Long enough for the spawn effect to finish and the hot paths to compile
+        public int warmup = 600;
+        public int frames = 3600;
+        // Bytes a single measured frame may allocate
+        public long budget = 0;
+
+        /** Reads --level=, --warmup=, --frames= and --budget= arguments. */
+        public static Settings parse(String[] args) {
+            Settings settings = new Settings();
+            for (String arg : args) {
+                int split = arg.indexOf('=');
+                if (!arg.startsWith("--") || split < 0) {
+                    throw new IllegalArgumentException("Expected --name=value, got " + arg);
+                }
+                String name = arg.substring(2, split);
+                String value = arg.substring(split + 1);
+                switch (name) {
+                    case "level" -> settings.level = Integer.parseInt(value);
+                    case "warmup" -> settings.warmup = Integer.parseInt(value);
+                    case "frames" -> settings.frames = Integer.parseInt(value);
+                    case "budget" -> settings.budget = Long.parseLong(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + name);
+                }
+            }
+            if (settings.level < 0 || settings.level >= LevelAssets.LEVEL_COUNT) {
+                throw new IllegalArgumentException("Level must be between 0 and " + (LevelAssets.LEVEL_COUNT - 1));
+            }
+            return settings;
+        }
+    }
+
+    /** Walks the player in a square so movement, collision and every walk clip are exercised. */
+    private static class ScriptedInput extends MockInput {
+        int frame;
+
+        @Override
+        public boolean isKeyPressed(int key) {
+            return key == WALK_KEYS[(frame / TURN_INTERVAL) % WALK_KEYS.length];
+        }
+    }
+
+    private final Settings settings;
+    private boolean failed;
+
+    public FrameAllocationCheck(Settings settings) {
+        this.settings = settings;
+    }
+
+    @Override
+    public void create() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            Gdx.app.error(TAG, "This JVM can't count allocated bytes per thread");
+            failed = true;
+            Gdx.app.exit();
+            return;
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        NoOpGL20 gl = new NoOpGL20();
+        Gdx.gl = gl;
+        Gdx.gl20 = gl;
+        ScriptedInput input = new ScriptedInput();
+        Gdx.input = input;
+
+        TechXplorerGame game = new TechXplorerGame();
+        try {
+            // Everything the loading screen queues, then straight into the level
+            game.create();
+            game.getAssetManager().finishLoading();
+            game.setScreen(new GameScreen(game, settings.level));
+            Screen screen = game.getScreen();
+
+            int frame = 0;
+            for (int i = 0; i < settings.warmup; i++, frame++) {
+                input.frame = frame;
+                screen.render(GameSimulation.STEP);
+            }
+            // Don't count whatever is left of streaming in the next level
+            game.getAssetManager().finishLoading();
+
+            long total = 0;
+            long worst = 0;
+            int allocatingFrames = 0;
+            for (int i = 0; i < settings.frames; i++, frame++) {
+                input.frame = frame;
+                long before = threads.getCurrentThreadAllocatedBytes();
+                screen.render(GameSimulation.STEP);
+                long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+                total += allocated;
+                worst = Math.max(worst, allocated);
+                if (allocated > 0) allocatingFrames++;
+                if (allocated > settings.budget) {
+                    failed = true;
+                }
+            }
+
+            Gdx.app.log(TAG, "Level " + settings.level + ": " + settings.frames + " frames, " + total + " bytes allocated, "
+                + allocatingFrames + " frames allocated, worst frame " + worst + " bytes, budget " + settings.budget
+                + " bytes per frame");
+            if (failed) {
+                Gdx.app.error(TAG, "Steady-state frames allocated more than the budget");
+            }
+        } catch (Exception e) {
+            Gdx.app.error(TAG, "Allocation check failed", e);
+            failed = true;
+        } finally {
+            game.dispose();
+        }
+
+        Gdx.app.exit();
+    }
+
+    @Override
+    public void dispose() {
+        if (failed) {
+            System.exit(1);
+        }
+    }
+}
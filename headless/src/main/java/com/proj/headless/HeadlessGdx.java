@@ -0,0 +1,32 @@
+package com.proj.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+/**
+ * Starts the libGDX headless backend once per JVM, with a NoOpGL20, for code that calls into the
+ * game directly: the benchmarks and the tests. Code that builds SpriteBatches, Skins and Stages
+ * runs all of its CPU-side work.
+ */
+public final class HeadlessGdx {
+    private static boolean started;
+
+    private HeadlessGdx() {
+    }
+
+    public static synchronized void start() {
+        if (started) return;
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        // Nothing to tick; callers drive the game themselves
+        configuration.updatesPerSecond = -1;
+        new HeadlessApplication(new ApplicationAdapter() {
+        }, configuration);
+
+        NoOpGL20 gl = new NoOpGL20();
+        Gdx.gl = gl;
+        Gdx.gl20 = gl;
+        started = true;
+    }
+}
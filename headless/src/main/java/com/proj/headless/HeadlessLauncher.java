@@ -0,0 +1,16 @@
+package com.proj.headless;
+
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+/** Launches the headless simulation runner. */
+public class HeadlessLauncher {
+    public static void main(String[] args) {
+        SimulationRunner.Settings settings = SimulationRunner.Settings.parse(args);
+
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        // The runner does all of its work in create(), so the render loop never has to tick
+        configuration.updatesPerSecond = -1;
+        new HeadlessApplication(new SimulationRunner(settings), configuration);
+    }
+}
@@ -0,0 +1,189 @@
+package com.proj.headless;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.proj.assets.AnimationRegistry;
+import com.proj.assets.LevelAssets;
+import com.proj.core.GameSimulation;
+import com.proj.ecs.Mappers;
+import com.proj.ecs.components.ColliderComponent;
+import com.proj.ecs.components.TransformComponent;
+import com.proj.map.CompiledMap;
+import com.proj.map.MapInteractionHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs many simulated sessions as fast as possible and reports throughput.
+ * Each session plays one level with pseudo-random input; a session fails if the player ends up
+ * inside a wall or at a non-finite position. The exit code is 1 if any session failed.
+ */
+public class SimulationRunner extends ApplicationAdapter {
+    private static final String TAG = "Simulation";
+
+    // Ticks between input changes, a quarter of a second
+    private static final int INPUT_INTERVAL = 15;
+
+    public static class Settings {
+        public int sessions = 200;
+        // One minute of game time per session
+        public int ticks = 3600;
+        public int threads = Runtime.getRuntime().availableProcessors();
+        public long seed = 1;
+
+        /** Reads --sessions=, --ticks=, --threads= and --seed= arguments. */
+        public static Settings parse(String[] args) {
+            Settings settings = new Settings();
+            for (String arg : args) {
+                int split = arg.indexOf('=');
+                if (!arg.startsWith("--") || split < 0) {
+                    throw new IllegalArgumentException("Expected --name=value, got " + arg);
+                }
+                String name = arg.substring(2, split);
+                String value = arg.substring(split + 1);
+                switch (name) {
+                    case "sessions" -> settings.sessions = Integer.parseInt(value);
+                    case "ticks" -> settings.ticks = Integer.parseInt(value);
+                    case "threads" -> settings.threads = Integer.parseInt(value);
+                    case "seed" -> settings.seed = Long.parseLong(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + name);
+                }
+            }
+            return settings;
+        }
+    }
+
+    private final Settings settings;
+    private int failures;
+
+    public SimulationRunner(Settings settings) {
+        this.settings = settings;
+    }
+
+    @Override
+    public void create() {
+        CompiledMap[] maps = readMaps();
+
+        Gdx.app.log(TAG, "Running " + settings.sessions + " sessions of " + settings.ticks + " ticks on "
+            + settings.threads + " threads");
+
+        long start = TimeUtils.nanoTime();
+        try {
+            for (Outcome outcome : runSessions(settings, maps)) {
+                if (!outcome.passed) {
+                    failures++;
+                }
+            }
+        } catch (Exception e) {
+            Gdx.app.error(TAG, "Simulation failed", e);
+            failures++;
+        }
+        long elapsed = TimeUtils.nanoTime() - start;
+
+        double seconds = elapsed / 1e9;
+        long totalTicks = (long) settings.sessions * settings.ticks;
+        Gdx.app.log(TAG, String.format("%d ticks in %.2f s: %.0f ticks/s, %.1f sessions/s, %.1f sessions/s per thread, %d failed",
+            totalTicks, seconds, totalTicks / seconds, settings.sessions / seconds,
+            settings.sessions / seconds / settings.threads, failures));
+
+        Gdx.app.exit();
+    }
+
+    /**
+     * Where the player of one session ended up, and whether that was a valid place.
+     */
+    static final class Outcome {
+        final float x;
+        final float y;
+        final boolean passed;
+
+        Outcome(float x, float y, boolean passed) {
+            this.x = x;
+            this.y = y;
+            this.passed = passed;
+        }
+    }
+
+    // Compiled map data is read-only once loaded, so every session can share it
+    static CompiledMap[] readMaps() {
+        CompiledMap[] maps = new CompiledMap[LevelAssets.LEVEL_COUNT];
+        for (int level = 0; level < maps.length; level++) {
+            maps[level] = CompiledMap.read(Gdx.files.internal(LevelAssets.getMap(level).fileName));
+        }
+        return maps;
+    }
+
+    /**
+     * Run settings.sessions sessions on settings.threads threads. The outcomes are in session order
+     * and don't depend on the number of threads.
+     */
+    static List<Outcome> runSessions(Settings settings, CompiledMap[] maps) throws InterruptedException, ExecutionException {
+        // Ashley registers component types and families in static maps that aren't thread-safe.
+        // GameSimulation builds its engines under a lock, and this first one registers everything
+        // on this thread, so the workers' steps only ever read those maps.
+        GameSimulation.create(maps[0], 0, AnimationRegistry.stub(), true);
+
+        ExecutorService executor = Executors.newFixedThreadPool(settings.threads);
+        try {
+            List<Future<Outcome>> results = new ArrayList<>();
+            for (int i = 0; i < settings.sessions; i++) {
+                final int session = i;
+                results.add(executor.submit(() -> runSession(settings, maps, session)));
+            }
+            List<Outcome> outcomes = new ArrayList<>(results.size());
+            for (Future<Outcome> result : results) {
+                outcomes.add(result.get());
+            }
+            return outcomes;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Outcome runSession(Settings settings, CompiledMap[] maps, int session) {
+        Random random = new Random(settings.seed * 31 + session);
+        int level = session % maps.length;
+        CompiledMap map = maps[level];
+
+        // A registry per session keeps the workers from sharing its caches
+        GameSimulation simulation = GameSimulation.create(map, level, AnimationRegistry.stub(), random.nextBoolean());
+        MapInteractionHandler collision = map.createInteractionHandler();
+        Entity player = simulation.getPlayer();
+        TransformComponent transform = Mappers.TRANSFORM.get(player);
+        ColliderComponent collider = Mappers.COLLIDER.get(player);
+        Rectangle bounds = new Rectangle();
+        boolean startedEmbedded = collision.isCollidingWithMap(collider.getBounds(transform, bounds));
+        for (int tick = 0; tick < settings.ticks; tick++) {
+            if (tick % INPUT_INTERVAL == 0) {
+                simulation.setInput(random.nextInt(3) - 1, random.nextInt(3) - 1);
+            }
+            simulation.step();
+        }
+
+        boolean finite = Float.isFinite(transform.x) && Float.isFinite(transform.y);
+        // Swept movement never ends inside a wall, unless the player spawned inside one
+        boolean embedded = !startedEmbedded && collision.isCollidingWithMap(collider.getBounds(transform, bounds));
+        if (!finite || embedded) {
+            Gdx.app.error(TAG, "Session " + session + " on level " + level + " ended at "
+                + transform.x + ", " + transform.y);
+            return new Outcome(transform.x, transform.y, false);
+        }
+        return new Outcome(transform.x, transform.y, true);
+    }
+
+    @Override
+    public void dispose() {
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.proj.headless;
+
+import com.proj.map.CompiledMap;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SimulationRunnerTest {
+    @BeforeAll
+    static void startGdx() {
+        HeadlessGdx.start();
+    }
+
+    @Test
+    void parallelSessionsMatchSequentialOnes() throws Exception {
+        CompiledMap[] maps = SimulationRunner.readMaps();
+        SimulationRunner.Settings settings = new SimulationRunner.Settings();
+        settings.sessions = 40;
+        settings.ticks = 600;
+        settings.seed = 7;
+
+        settings.threads = 1;
+        List<SimulationRunner.Outcome> sequential = SimulationRunner.runSessions(settings, maps);
+        // More threads than cores, so engines are built while others step
+        settings.threads = 8;
+        List<SimulationRunner.Outcome> parallel = SimulationRunner.runSessions(settings, maps);
+
+        assertEquals(settings.sessions, parallel.size());
+        for (int i = 0; i < settings.sessions; i++) {
+            SimulationRunner.Outcome expected = sequential.get(i);
+            SimulationRunner.Outcome actual = parallel.get(i);
+            assertTrue(actual.passed, "session " + i + " failed");
+            assertEquals(expected.x, actual.x, "session " + i + " x");
+            assertEquals(expected.y, actual.y, "session " + i + " y");
+        }
+    }
+}
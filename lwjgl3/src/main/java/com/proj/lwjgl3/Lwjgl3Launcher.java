@@ -2,17 +2,41 @@ package com.proj.lwjgl3;
 
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import com.badlogic.gdx.files.FileHandle;
 import com.proj.core.TechXplorerGame;
+import com.proj.util.StartupTrace;
 
 /** Launches the desktop (LWJGL3) application. */
 public class Lwjgl3Launcher {
+    // Frame rates while the window is behind other windows, and while it's minimised (the game is paused then).
+    // Override with -Dtechxplorer.backgroundFps=... and -Dtechxplorer.minimizedFps=...
+    private static final int BACKGROUND_FPS = Integer.getInteger("techxplorer.backgroundFps", 15);
+    private static final int MINIMIZED_FPS = Integer.getInteger("techxplorer.minimizedFps", 5);
+    // How often the window is polled for input while a menu renders on demand, -Dtechxplorer.idleFps=...
+    private static final int IDLE_FPS = Integer.getInteger("techxplorer.idleFps", 20);
+    // Milliseconds per frame the loading screen spends finishing assets, -Dtechxplorer.loadBudgetMillis=...
+    private static final int LOAD_BUDGET_MILLIS = Integer.getInteger("techxplorer.loadBudgetMillis", 8);
+    // Folder the transcoded videos ship in next to the jar, -Dtechxplorer.videoDir=... (set by the start scripts)
+    private static final String VIDEO_DIR = System.getProperty("techxplorer.videoDir");
+    // -Dtechxplorer.startupTrace=true logs the startup milestones once the game takes input.
+    // -Dtechxplorer.startupReport=<csv file> also appends them to the file and exits (lwjgl3:startupBenchmark).
+    private static final String STARTUP_REPORT = System.getProperty("techxplorer.startupReport");
+
     public static void main(String[] args) {
+        if (Boolean.getBoolean("techxplorer.startupTrace") || STARTUP_REPORT != null) {
+            StartupTrace.enable(STARTUP_REPORT == null ? null : new FileHandle(STARTUP_REPORT));
+        }
+        StartupTrace.mark(StartupTrace.Milestone.MAIN);
         if (StartupHelper.startNewJvmIfRequired()) return; // This handles macOS support and helps on Windows.
+        StartupTrace.mark(StartupTrace.Milestone.LAUNCHER_READY);
         createApplication();
     }
 
     private static Lwjgl3Application createApplication() {
-        return new Lwjgl3Application(new TechXplorerGame(), getDefaultConfiguration());
+        TechXplorerGame game = new TechXplorerGame();
+        game.setLoadingBudgetMillis(LOAD_BUDGET_MILLIS);
+        game.setVideoFolder(VIDEO_DIR);
+        return new Lwjgl3Application(game, getDefaultConfiguration());
     }
 
     private static Lwjgl3ApplicationConfiguration getDefaultConfiguration() {
@@ -23,10 +47,17 @@ public class Lwjgl3Launcher {
         configuration.useVsync(true);
         //// Limits FPS to the refresh rate of the currently active monitor, plus 1 to try to match fractional
         //// refresh rates. The Vsync setting above should limit the actual FPS to match the monitor.
-        configuration.setForegroundFPS(Lwjgl3ApplicationConfiguration.getDisplayMode().refreshRate + 1);
+        int foregroundFps = Lwjgl3ApplicationConfiguration.getDisplayMode().refreshRate + 1;
+        configuration.setForegroundFPS(foregroundFps);
         //// If you remove the above line and set Vsync to false, you can get unlimited FPS, which can be
         //// useful for testing performance, but can also be very stressful to some hardware.
         //// You may also need to configure GPU drivers to fully disable Vsync; this can cause screen tearing.
+        //// Save power when nobody is looking: poll menus slowly, throttle unfocused windows and
+        //// pause the game (Screen.pause()) while minimised.
+        configuration.setIdleFPS(IDLE_FPS);
+        configuration.setPauseWhenMinimized(true);
+        configuration.setPauseWhenLostFocus(false);
+        configuration.setWindowListener(new WindowPowerPolicy(foregroundFps, BACKGROUND_FPS, MINIMIZED_FPS));
         configuration.setWindowedMode(640, 480);
         //// You can change these files; they are in lwjgl3/src/main/resources/ .
         configuration.setWindowIcon("libgdx128.png", "libgdx64.png", "libgdx32.png", "libgdx16.png");
@@ -0,0 +1,47 @@
+package com.proj.lwjgl3;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3WindowAdapter;
+
+/**
+ * Throttles the game while its window isn't in front. Without focus, frames are capped at the
+ * background rate. While minimised the backend pauses the game (Screen.pause(), see
+ * setPauseWhenMinimized) and frames drop to the minimised rate until the window is restored.
+ */
+public class WindowPowerPolicy extends Lwjgl3WindowAdapter {
+    private final int foregroundFps;
+    private final int backgroundFps;
+    private final int minimizedFps;
+
+    private boolean focused = true;
+    private boolean minimized;
+
+    public WindowPowerPolicy(int foregroundFps, int backgroundFps, int minimizedFps) {
+        this.foregroundFps = foregroundFps;
+        this.backgroundFps = backgroundFps;
+        this.minimizedFps = minimizedFps;
+    }
+
+    @Override
+    public void focusGained() {
+        focused = true;
+        applyFps();
+    }
+
+    @Override
+    public void focusLost() {
+        focused = false;
+        applyFps();
+    }
+
+    @Override
+    public void iconified(boolean isIconified) {
+        minimized = isIconified;
+        applyFps();
+    }
+
+    private void applyFps() {
+        // Called on the render thread, with this window's Graphics current
+        Gdx.graphics.setForegroundFPS(minimized ? minimizedFps : focused ? foregroundFps : backgroundFps);
+    }
+}